@@ -1,13 +1,12 @@
 package br.com.riteris.octopus.monitoring.error.aspects;
 
+import br.com.riteris.octopus.utils.ObjectDescriber;
 import org.aspectj.lang.Signature;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 
-import static br.com.riteris.octopus.utils.ObjectTools.describeObjectsCollection;
-
 public class ErrorInfo {
 
     private LocalDateTime errorDate;
@@ -42,9 +41,9 @@ public class ErrorInfo {
         this.errorMessage = error.getMessage() != null ? error.getMessage() : "N/A";
 
         if ( args != null ) {
-            this.processParameters = describeObjectsCollection( Arrays.asList( args ) );
+            this.processParameters = ObjectDescriber.DEFAULT.describeAll( Arrays.asList( args ) );
         } else {
-            this.processParameters = describeObjectsCollection( null );
+            this.processParameters = ObjectDescriber.DEFAULT.describeAll( null );
         }
     }
 
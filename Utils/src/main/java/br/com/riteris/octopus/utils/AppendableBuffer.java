@@ -0,0 +1,62 @@
+package br.com.riteris.octopus.utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+final class AppendableBuffer {
+
+    private final Appendable target;
+
+    private final char[] buffer;
+
+    private int length;
+
+    AppendableBuffer( final Appendable target, final int bufferSize ) {
+        this.target = target;
+        this.buffer = new char[ bufferSize ];
+    }
+
+    static void appendChars( final Appendable target, final char[] chars, final int start, final int end ) throws IOException {
+        if ( target instanceof Writer ) {
+            ( ( Writer ) target ).write( chars, start, end - start );
+        } else if ( target instanceof StringBuilder ) {
+            ( ( StringBuilder ) target ).append( chars, start, end - start );
+        } else {
+            target.append( CharBuffer.wrap( chars, start, end - start ) );
+        }
+    }
+
+    void append( final char character ) throws IOException {
+        if ( this.length == this.buffer.length ) {
+            flush();
+        }
+
+        this.buffer[ this.length++ ] = character;
+    }
+
+    void append( final char[] characters, final int start, final int end ) throws IOException {
+        for ( int i = start; i < end; i++ ) {
+            append( characters[ i ] );
+        }
+    }
+
+    void append( final CharSequence characters, final int start, final int end ) throws IOException {
+        for ( int i = start; i < end; i++ ) {
+            append( characters.charAt( i ) );
+        }
+    }
+
+    void append( final CharSequence characters ) throws IOException {
+        append( characters, 0, characters.length() );
+    }
+
+    void flush() throws IOException {
+        if ( this.length > 0 ) {
+            appendChars( this.target, this.buffer, 0, this.length );
+
+            this.length = 0;
+        }
+    }
+
+}
@@ -0,0 +1,425 @@
+package br.com.riteris.octopus.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public final class BusinessCalendar {
+
+    private static final Set< DayOfWeek > DEFAULT_WEEKEND_DAYS = Collections.unmodifiableSet( EnumSet.of( DayOfWeek.SATURDAY, DayOfWeek.SUNDAY ) );
+
+    private static final ConcurrentMap< String, BusinessCalendar > LOADED_CALENDARS = new ConcurrentHashMap<>();
+
+    private static final int MINIMUM_TABLE_YEARS = 16;
+
+    private static final int MAXIMUM_TABLE_YEARS = 400;
+
+    private static final long MINIMUM_EPOCH_DAY = LocalDate.MIN.toEpochDay();
+
+    private static final long MAXIMUM_EPOCH_DAY = LocalDate.MAX.toEpochDay();
+
+    private static final char COMMENT_MARKER = '#';
+
+    private final boolean[] weekendDays = new boolean[ 7 ];
+
+    private final Set< DayOfWeek > weekend;
+
+    private final long[] holidays;
+
+    private final int[] weekWorkingDays = new int[ 7 ];
+
+    private volatile DayTable table;
+
+    public BusinessCalendar( final Collection< LocalDate > holidays ) {
+        this( DEFAULT_WEEKEND_DAYS, holidays );
+    }
+
+    public BusinessCalendar( final Set< DayOfWeek > weekendDays, final Collection< LocalDate > holidays ) {
+        if ( weekendDays == null ) {
+            throw new IllegalArgumentException( "The weekend days can't be null." );
+        }
+
+        if ( weekendDays.size() >= 7 ) {
+            throw new IllegalArgumentException( "The weekend can't contain every day of the week." );
+        }
+
+        if ( holidays == null ) {
+            throw new IllegalArgumentException( "The holidays collection can't be null." );
+        }
+
+        for ( DayOfWeek day : weekendDays ) {
+            if ( day == null ) {
+                throw new IllegalArgumentException( "The weekend days can't contain null values." );
+            }
+
+            this.weekendDays[ day.ordinal() ] = true;
+        }
+
+        this.weekend = weekendDays.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet( EnumSet.copyOf( weekendDays ) );
+        this.holidays = workingDayHolidays( DateTools.toEpochDays( holidays.toArray( new LocalDate[ holidays.size() ] ) ) );
+
+        for ( int day = 0; day < 7; day++ ) {
+            final boolean workingDay = !this.weekendDays[ DateTools.getDayOfWeek( day ).ordinal() ];
+
+            this.weekWorkingDays[ day ] = ( day > 0 ? this.weekWorkingDays[ day - 1 ] : 0 ) + ( workingDay ? 1 : 0 );
+        }
+
+        final int year = this.holidays.length > 0 ? LocalDate.ofEpochDay( this.holidays[ 0 ] ).getYear() : LocalDate.now().getYear();
+
+        this.table = new DayTable( this, year, year + MINIMUM_TABLE_YEARS - 1 );
+    }
+
+    public static BusinessCalendar load( final Path holidaysFile ) throws IOException {
+        return load( holidaysFile, DEFAULT_WEEKEND_DAYS );
+    }
+
+    public static BusinessCalendar load( final Path holidaysFile, final Set< DayOfWeek > weekendDays ) throws IOException {
+        if ( holidaysFile == null ) {
+            throw new IllegalArgumentException( "The holidays file can't be null." );
+        }
+
+        if ( weekendDays == null ) {
+            throw new IllegalArgumentException( "The weekend days can't be null." );
+        }
+
+        int weekendMask = 0;
+
+        for ( DayOfWeek day : weekendDays ) {
+            if ( day == null ) {
+                throw new IllegalArgumentException( "The weekend days can't contain null values." );
+            }
+
+            weekendMask |= 1 << day.ordinal();
+        }
+
+        final String key = holidaysFile.toAbsolutePath().normalize() + "|" + weekendMask;
+        final BusinessCalendar cached = LOADED_CALENDARS.get( key );
+
+        if ( cached != null ) {
+            return cached;
+        }
+
+        final BusinessCalendar calendar = new BusinessCalendar( weekendDays, readHolidays( holidaysFile ) );
+        final BusinessCalendar previous = LOADED_CALENDARS.putIfAbsent( key, calendar );
+
+        return previous != null ? previous : calendar;
+    }
+
+    static void clearLoadedCalendars() {
+        LOADED_CALENDARS.clear();
+    }
+
+    private static Collection< LocalDate > readHolidays( final Path holidaysFile ) throws IOException {
+        final Collection< LocalDate > holidays = new ArrayList<>();
+
+        try ( BufferedReader reader = Files.newBufferedReader( holidaysFile, StandardCharsets.UTF_8 ) ) {
+            String line;
+            int lineNumber = 0;
+
+            while ( ( line = reader.readLine() ) != null ) {
+                lineNumber++;
+
+                final int comment = line.indexOf( COMMENT_MARKER );
+                final String value = ( comment >= 0 ? line.substring( 0, comment ) : line ).trim();
+
+                if ( value.isEmpty() ) {
+                    continue;
+                }
+
+                try {
+                    holidays.add( LocalDate.parse( value ) );
+                } catch ( DateTimeParseException e ) {
+                    throw new IOException( "Invalid holiday date '" + value + "' at line " + lineNumber + " of " + holidaysFile + ".", e );
+                }
+            }
+        }
+
+        return holidays;
+    }
+
+    public Set< DayOfWeek > getWeekendDays() {
+        return this.weekend;
+    }
+
+    public boolean isBusinessDay( final LocalDate date ) {
+        if ( date == null ) {
+            throw new IllegalArgumentException( "The date can't be null." );
+        }
+
+        final long epochDay = date.toEpochDay();
+        final DayTable current = tableCovering( epochDay, epochDay );
+
+        return current != null ? current.isBusinessDay( epochDay ) : isWorkingDay( epochDay );
+    }
+
+    public LocalDate nextBusinessDay( final LocalDate date ) {
+        if ( date == null ) {
+            throw new IllegalArgumentException( "The date can't be null." );
+        }
+
+        return addBusinessDays( date, 1 );
+    }
+
+    public LocalDate previousBusinessDay( final LocalDate date ) {
+        if ( date == null ) {
+            throw new IllegalArgumentException( "The date can't be null." );
+        }
+
+        return addBusinessDays( date, -1 );
+    }
+
+    public LocalDate addBusinessDays( final LocalDate date, final int businessDays ) {
+        if ( date == null ) {
+            throw new IllegalArgumentException( "The date can't be null." );
+        }
+
+        final long epochDay = date.toEpochDay();
+
+        if ( businessDays == 0 ) {
+            return date;
+        }
+
+        final long margin = ( Math.abs( ( long ) businessDays ) * 7 ) / ( 7 - this.weekend.size() ) + 7;
+        DayTable current = businessDays > 0 ? tableCovering( epochDay, Math.min( epochDay + margin, MAXIMUM_EPOCH_DAY ) )
+                : tableCovering( Math.max( epochDay - margin, MINIMUM_EPOCH_DAY ), epochDay );
+
+        while ( current != null ) {
+            final long rank = current.rank( epochDay );
+            final long target = businessDays > 0 ? rank + businessDays : rank + businessDays + ( current.isBusinessDay( epochDay ) ? 0 : 1 );
+
+            if ( target >= 1 && target <= current.totalBusinessDays() ) {
+                return LocalDate.ofEpochDay( current.select( target ) );
+            }
+
+            if ( businessDays > 0 ? current.lastEpochDay() >= MAXIMUM_EPOCH_DAY : current.firstEpochDay() <= MINIMUM_EPOCH_DAY ) {
+                throw new IllegalArgumentException( "The resulting date is out of the supported date range." );
+            }
+
+            current = businessDays > 0 ? tableCovering( epochDay, Math.min( current.lastEpochDay() + margin, MAXIMUM_EPOCH_DAY ) )
+                    : tableCovering( Math.max( current.firstEpochDay() - margin, MINIMUM_EPOCH_DAY ), epochDay );
+        }
+
+        return LocalDate.ofEpochDay( addWorkingDays( epochDay, businessDays ) );
+    }
+
+    public long businessDaysBetween( final LocalDate startDate, final LocalDate endDate ) {
+        if ( startDate == null || endDate == null ) {
+            throw new IllegalArgumentException( "The start and end dates can't be null." );
+        }
+
+        final long start = startDate.toEpochDay();
+        final long end = endDate.toEpochDay();
+        final DayTable current = tableCovering( Math.min( start, end ), Math.max( start, end ) );
+
+        return current != null ? current.rank( end ) - current.rank( start ) : workingDayRank( end ) - workingDayRank( start );
+    }
+
+    public LocalDate getLastBusinessDayOfMonth( final LocalDate date ) {
+        final LocalDate lastDay = DateTools.getDateAtLastDayOfActualDateMonth( date );
+
+        return isBusinessDay( lastDay ) ? lastDay : previousBusinessDay( lastDay );
+    }
+
+    public LocalDate getFirstBusinessDayOfMonth( final LocalDate date ) {
+        final LocalDate firstDay = DateTools.getDateAtFirstDayOfActualDateMonth( date );
+
+        return isBusinessDay( firstDay ) ? firstDay : nextBusinessDay( firstDay );
+    }
+
+    boolean isWorkingDay( final long epochDay ) {
+        return !this.weekendDays[ DateTools.getDayOfWeek( epochDay ).ordinal() ] && Arrays.binarySearch( this.holidays, epochDay ) < 0;
+    }
+
+    private long workingDayRank( final long epochDay ) {
+        final int holidaysUntil = Arrays.binarySearch( this.holidays, epochDay );
+
+        return Math.floorDiv( epochDay, 7 ) * this.weekWorkingDays[ 6 ] + this.weekWorkingDays[ ( int ) Math.floorMod( epochDay, 7L ) ] - (
+                holidaysUntil >= 0 ? holidaysUntil + 1 : -( holidaysUntil + 1 ) );
+    }
+
+    private long addWorkingDays( final long epochDay, final int businessDays ) {
+        final long target = businessDays > 0 ? workingDayRank( epochDay ) + businessDays : workingDayRank( epochDay - 1 ) + businessDays + 1;
+        long low = businessDays > 0 ? epochDay + 1 : MINIMUM_EPOCH_DAY;
+        long high = businessDays > 0 ? MAXIMUM_EPOCH_DAY : epochDay - 1;
+
+        if ( low > high || workingDayRank( high ) < target || workingDayRank( low - 1 ) >= target ) {
+            throw new IllegalArgumentException( "The resulting date is out of the supported date range." );
+        }
+
+        while ( low < high ) {
+            final long middle = low + ( high - low ) / 2;
+
+            if ( workingDayRank( middle ) < target ) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    private long[] workingDayHolidays( final long[] epochDays ) {
+        Arrays.sort( epochDays );
+
+        int count = 0;
+
+        for ( long epochDay : epochDays ) {
+            if ( !this.weekendDays[ DateTools.getDayOfWeek( epochDay ).ordinal() ] && ( count == 0 || epochDays[ count - 1 ] != epochDay ) ) {
+                epochDays[ count++ ] = epochDay;
+            }
+        }
+
+        return Arrays.copyOf( epochDays, count );
+    }
+
+    private DayTable tableCovering( final long firstEpochDay, final long lastEpochDay ) {
+        final DayTable current = this.table;
+
+        if ( current.covers( firstEpochDay, lastEpochDay ) ) {
+            return current;
+        }
+
+        return growTable( firstEpochDay, lastEpochDay );
+    }
+
+    private synchronized DayTable growTable( final long firstEpochDay, final long lastEpochDay ) {
+        final DayTable current = this.table;
+
+        if ( current.covers( firstEpochDay, lastEpochDay ) ) {
+            return current;
+        }
+
+        final int firstRequestedYear;
+        final int lastRequestedYear;
+
+        try {
+            firstRequestedYear = LocalDate.ofEpochDay( firstEpochDay ).getYear();
+            lastRequestedYear = LocalDate.ofEpochDay( lastEpochDay ).getYear();
+        } catch ( DateTimeException e ) {
+            throw new IllegalArgumentException( "The requested dates are out of the supported date range.", e );
+        }
+
+        final int requestedSpan = lastRequestedYear - firstRequestedYear + 1;
+
+        if ( requestedSpan > MAXIMUM_TABLE_YEARS ) {
+            return null;
+        }
+
+        final int span = current.lastYear - current.firstYear + 1;
+        int firstYear = Math.min( current.firstYear - ( firstEpochDay < current.firstEpochDay() ? span : 0 ), firstRequestedYear );
+        int lastYear = Math.max( current.lastYear + ( lastEpochDay > current.lastEpochDay() ? span : 0 ), lastRequestedYear );
+
+        if ( lastYear - firstYear + 1 > MAXIMUM_TABLE_YEARS ) {
+            firstYear = Math.max( firstRequestedYear - ( MAXIMUM_TABLE_YEARS - requestedSpan ) / 2, LocalDate.MIN.getYear() );
+            lastYear = firstYear + MAXIMUM_TABLE_YEARS - 1;
+        }
+
+        this.table = new DayTable( this, Math.max( firstYear, LocalDate.MIN.getYear() ), Math.min( lastYear, LocalDate.MAX.getYear() ) );
+
+        return this.table;
+    }
+
+    private static final class DayTable {
+
+        private final int firstYear;
+
+        private final int lastYear;
+
+        private final long baseEpochDay;
+
+        private final long dayCount;
+
+        private final long[] words;
+
+        private final long[] prefixCounts;
+
+        private DayTable( final BusinessCalendar calendar, final int firstYear, final int lastYear ) {
+            this.firstYear = firstYear;
+            this.lastYear = lastYear;
+            this.baseEpochDay = LocalDate.of( firstYear, 1, 1 ).toEpochDay();
+            this.dayCount = LocalDate.of( lastYear, 12, 31 ).toEpochDay() - this.baseEpochDay + 1;
+            this.words = new long[ ( int ) ( ( this.dayCount + 63 ) >>> 6 ) ];
+            this.prefixCounts = new long[ this.words.length + 1 ];
+
+            for ( long day = 0; day < this.dayCount; day++ ) {
+                if ( calendar.isWorkingDay( this.baseEpochDay + day ) ) {
+                    this.words[ ( int ) ( day >>> 6 ) ] |= 1L << day;
+                }
+            }
+
+            for ( int word = 0; word < this.words.length; word++ ) {
+                this.prefixCounts[ word + 1 ] = this.prefixCounts[ word ] + Long.bitCount( this.words[ word ] );
+            }
+        }
+
+        private long firstEpochDay() {
+            return this.baseEpochDay;
+        }
+
+        private long lastEpochDay() {
+            return this.baseEpochDay + this.dayCount - 1;
+        }
+
+        private boolean covers( final long firstEpochDay, final long lastEpochDay ) {
+            return firstEpochDay >= firstEpochDay() && lastEpochDay <= lastEpochDay();
+        }
+
+        private long totalBusinessDays() {
+            return this.prefixCounts[ this.words.length ];
+        }
+
+        private boolean isBusinessDay( final long epochDay ) {
+            final long day = epochDay - this.baseEpochDay;
+
+            return ( this.words[ ( int ) ( day >>> 6 ) ] & ( 1L << day ) ) != 0;
+        }
+
+        private long rank( final long epochDay ) {
+            final long day = epochDay - this.baseEpochDay;
+            final int word = ( int ) ( day >>> 6 );
+            final long mask = -1L >>> ( 63 - ( day & 63 ) );
+
+            return this.prefixCounts[ word ] + Long.bitCount( this.words[ word ] & mask );
+        }
+
+        private long select( final long rank ) {
+            int low = 0;
+            int high = this.words.length - 1;
+
+            while ( low < high ) {
+                final int middle = ( low + high + 1 ) >>> 1;
+
+                if ( this.prefixCounts[ middle ] < rank ) {
+                    low = middle;
+                } else {
+                    high = middle - 1;
+                }
+            }
+
+            long bits = this.words[ low ];
+
+            for ( long remaining = rank - this.prefixCounts[ low ]; remaining > 1; remaining-- ) {
+                bits &= bits - 1;
+            }
+
+            return this.baseEpochDay + ( ( long ) low << 6 ) + Long.numberOfTrailingZeros( bits );
+        }
+
+    }
+
+}
@@ -0,0 +1,126 @@
+package br.com.riteris.octopus.utils;
+
+import java.time.LocalDate;
+
+final class CalendarTable {
+
+    static final String FIRST_YEAR_PROPERTY = "octopus.utils.calendar.firstYear";
+
+    static final String LAST_YEAR_PROPERTY = "octopus.utils.calendar.lastYear";
+
+    static final int DEFAULT_FIRST_YEAR = 1900;
+
+    static final int DEFAULT_LAST_YEAR = 2200;
+
+    private static final int MAXIMUM_YEAR = 9999;
+
+    private static final double AVERAGE_MONTH_DAYS = 365.2425 / 12;
+
+    private final int firstYear;
+
+    private final int lastYear;
+
+    private final long firstEpochDay;
+
+    private final long lastEpochDay;
+
+    private final int[] monthStarts;
+
+    CalendarTable( final int firstYear, final int lastYear ) {
+        if ( firstYear < 1 || lastYear < firstYear || lastYear > MAXIMUM_YEAR ) {
+            throw new IllegalArgumentException( "The calendar table range " + firstYear + "-" + lastYear + " isn't valid." );
+        }
+
+        this.firstYear = firstYear;
+        this.lastYear = lastYear;
+        this.monthStarts = new int[ ( lastYear - firstYear + 1 ) * 12 + 1 ];
+
+        final LocalDate first = LocalDate.of( firstYear, 1, 1 );
+        long epochDay = first.toEpochDay();
+
+        for ( int month = 0; month < this.monthStarts.length - 1; month++ ) {
+            this.monthStarts[ month ] = ( int ) epochDay;
+            epochDay += first.plusMonths( month ).lengthOfMonth();
+        }
+
+        this.monthStarts[ this.monthStarts.length - 1 ] = ( int ) epochDay;
+        this.firstEpochDay = this.monthStarts[ 0 ];
+        this.lastEpochDay = epochDay - 1;
+    }
+
+    static CalendarTable get() {
+        return Holder.INSTANCE;
+    }
+
+    private static CalendarTable fromSystemProperties() {
+        try {
+            return new CalendarTable( Integer.getInteger( FIRST_YEAR_PROPERTY, DEFAULT_FIRST_YEAR ), Integer.getInteger( LAST_YEAR_PROPERTY,
+                    DEFAULT_LAST_YEAR ) );
+        } catch ( IllegalArgumentException e ) {
+            return new CalendarTable( DEFAULT_FIRST_YEAR, DEFAULT_LAST_YEAR );
+        }
+    }
+
+    int getFirstYear() {
+        return this.firstYear;
+    }
+
+    int getLastYear() {
+        return this.lastYear;
+    }
+
+    boolean coversYear( final int year ) {
+        return year >= this.firstYear && year <= this.lastYear;
+    }
+
+    boolean coversEpochDay( final long epochDay ) {
+        return epochDay >= this.firstEpochDay && epochDay <= this.lastEpochDay;
+    }
+
+    int getYearDays( final int year ) {
+        final int month = ( year - this.firstYear ) * 12;
+
+        return this.monthStarts[ month + 12 ] - this.monthStarts[ month ];
+    }
+
+    long getMonthStartEpochDay( final int year, final int month ) {
+        return this.monthStarts[ ( year - this.firstYear ) * 12 + month - 1 ];
+    }
+
+    long getMonthEndEpochDay( final int year, final int month ) {
+        return this.monthStarts[ ( year - this.firstYear ) * 12 + month ] - 1;
+    }
+
+    int getMonthIndex( final long epochDay ) {
+        int month = ( int ) ( ( epochDay - this.firstEpochDay ) / AVERAGE_MONTH_DAYS );
+
+        if ( month >= this.monthStarts.length - 1 ) {
+            month = this.monthStarts.length - 2;
+        }
+
+        while ( this.monthStarts[ month ] > epochDay ) {
+            month--;
+        }
+
+        while ( this.monthStarts[ month + 1 ] <= epochDay ) {
+            month++;
+        }
+
+        return month;
+    }
+
+    long getMonthStartEpochDay( final long epochDay ) {
+        return this.monthStarts[ getMonthIndex( epochDay ) ];
+    }
+
+    long getMonthEndEpochDay( final long epochDay ) {
+        return this.monthStarts[ getMonthIndex( epochDay ) + 1 ] - 1;
+    }
+
+    private static final class Holder {
+
+        private static final CalendarTable INSTANCE = fromSystemProperties();
+
+    }
+
+}
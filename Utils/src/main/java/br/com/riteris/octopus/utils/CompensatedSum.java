@@ -0,0 +1,53 @@
+package br.com.riteris.octopus.utils;
+
+final class CompensatedSum {
+
+    private double sum;
+
+    private double compensation;
+
+    private long count;
+
+    void add( final double value ) {
+        accumulate( value );
+
+        this.count++;
+    }
+
+    void remove( final double value ) {
+        if ( --this.count == 0 ) {
+            this.sum = 0;
+            this.compensation = 0;
+        } else {
+            accumulate( -value );
+        }
+    }
+
+    void combine( final CompensatedSum other ) {
+        accumulate( other.sum );
+
+        this.compensation += other.compensation;
+        this.count += other.count;
+    }
+
+    double getSum() {
+        return this.sum + this.compensation;
+    }
+
+    long getCount() {
+        return this.count;
+    }
+
+    private void accumulate( final double value ) {
+        final double total = this.sum + value;
+
+        if ( Math.abs( this.sum ) >= Math.abs( value ) ) {
+            this.compensation += ( this.sum - total ) + value;
+        } else {
+            this.compensation += ( value - total ) + this.sum;
+        }
+
+        this.sum = total;
+    }
+
+}
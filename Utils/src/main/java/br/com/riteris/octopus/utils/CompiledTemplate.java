@@ -0,0 +1,195 @@
+package br.com.riteris.octopus.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static br.com.riteris.octopus.utils.StringTools.stringIsNullOrEmptyOrBlank;
+
+public final class CompiledTemplate {
+
+    private static final long CACHE_MAXIMUM_CHARACTERS = 1L << 20;
+
+    private static final Cache< CacheKey, CompiledTemplate > CACHE = CacheBuilder.newBuilder().maximumWeight( CACHE_MAXIMUM_CHARACTERS ).weigher(
+            ( final CacheKey cacheKey, final CompiledTemplate compiledTemplate ) -> cacheKey.length() ).build();
+
+    private final String[] literals;
+
+    private final String[] placeholderKeys;
+
+    private final String[] placeholders;
+
+    private final int literalsLength;
+
+    private CompiledTemplate( final String[] literals, final String[] placeholderKeys, final String[] placeholders ) {
+        this.literals = literals;
+        this.placeholderKeys = placeholderKeys;
+        this.placeholders = placeholders;
+
+        int length = 0;
+
+        for ( String literal : literals ) {
+            length += literal.length();
+        }
+
+        this.literalsLength = length;
+    }
+
+    public static CompiledTemplate compile( final String template, final String leftDelimiter, final String rightDelimiter ) {
+        if ( template == null ) {
+            throw new IllegalArgumentException( "The template can't be null." );
+        }
+
+        if ( stringIsNullOrEmptyOrBlank( leftDelimiter ) || stringIsNullOrEmptyOrBlank( rightDelimiter ) ) {
+            throw new IllegalArgumentException( "Left and right delimiters can't be null, empty or blank." );
+        }
+
+        final CacheKey cacheKey = new CacheKey( template, leftDelimiter, rightDelimiter );
+
+        CompiledTemplate compiledTemplate = CACHE.getIfPresent( cacheKey );
+
+        if ( compiledTemplate == null ) {
+            compiledTemplate = parse( template, leftDelimiter, rightDelimiter );
+
+            CACHE.put( cacheKey, compiledTemplate );
+        }
+
+        return compiledTemplate;
+    }
+
+    private static CompiledTemplate parse( final String template, final String leftDelimiter, final String rightDelimiter ) {
+        final List< String > literals = new ArrayList<>();
+        final List< String > placeholderKeys = new ArrayList<>();
+        final List< String > placeholders = new ArrayList<>();
+
+        int literalStart = 0;
+        int searchStart = 0;
+
+        while ( true ) {
+            final int placeholderStart = template.indexOf( leftDelimiter, searchStart );
+
+            if ( placeholderStart < 0 ) {
+                break;
+            }
+
+            final int keyStart = placeholderStart + leftDelimiter.length();
+            final int keyEnd = template.indexOf( rightDelimiter, keyStart + 1 );
+
+            if ( keyEnd < 0 ) {
+                break;
+            }
+
+            final int lineTerminator = indexOfLineTerminator( template, keyStart, keyEnd );
+
+            if ( lineTerminator >= 0 ) {
+                searchStart = lineTerminator + 1;
+                continue;
+            }
+
+            final int placeholderEnd = keyEnd + rightDelimiter.length();
+
+            literals.add( template.substring( literalStart, placeholderStart ) );
+            placeholderKeys.add( template.substring( keyStart, keyEnd ) );
+            placeholders.add( template.substring( placeholderStart, placeholderEnd ) );
+
+            literalStart = placeholderEnd;
+            searchStart = placeholderEnd;
+        }
+
+        literals.add( template.substring( literalStart ) );
+
+        return new CompiledTemplate( literals.toArray( new String[ literals.size() ] ), placeholderKeys.toArray( new String[ placeholderKeys.size() ] ),
+                placeholders.toArray( new String[ placeholders.size() ] ) );
+    }
+
+    static boolean isLineTerminator( final char character ) {
+        return character == '\n' || character == '\r' || character == '\u0085' || character == '\u2028' || character == '\u2029';
+    }
+
+    private static int indexOfLineTerminator( final String text, final int start, final int end ) {
+        for ( int i = start; i < end; i++ ) {
+            if ( isLineTerminator( text.charAt( i ) ) ) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    public String render( final Map< String, String > replacementMap ) {
+        if ( replacementMap == null ) {
+            throw new IllegalArgumentException( "Replacement map can't be null." );
+        }
+
+        if ( this.placeholderKeys.length == 0 ) {
+            return this.literals[ 0 ];
+        }
+
+        final String[] values = new String[ this.placeholderKeys.length ];
+        int length = this.literalsLength;
+
+        for ( int i = 0; i < values.length; i++ ) {
+            final String value = replacementMap.get( this.placeholderKeys[ i ] );
+
+            values[ i ] = value != null ? value : this.placeholders[ i ];
+            length += values[ i ].length();
+        }
+
+        final StringBuilder result = new StringBuilder( length );
+
+        for ( int i = 0; i < values.length; i++ ) {
+            result.append( this.literals[ i ] ).append( values[ i ] );
+        }
+
+        return result.append( this.literals[ values.length ] ).toString();
+    }
+
+    public int getPlaceholdersCount() {
+        return this.placeholderKeys.length;
+    }
+
+    private static final class CacheKey {
+
+        private final String template;
+
+        private final String leftDelimiter;
+
+        private final String rightDelimiter;
+
+        private CacheKey( final String template, final String leftDelimiter, final String rightDelimiter ) {
+            this.template = template;
+            this.leftDelimiter = leftDelimiter;
+            this.rightDelimiter = rightDelimiter;
+        }
+
+        private int length() {
+            return this.template.length() + this.leftDelimiter.length() + this.rightDelimiter.length();
+        }
+
+        @Override
+        public boolean equals( final Object other ) {
+            if ( this == other ) {
+                return true;
+            }
+
+            if ( !( other instanceof CacheKey ) ) {
+                return false;
+            }
+
+            final CacheKey otherKey = ( CacheKey ) other;
+
+            return this.template.equals( otherKey.template ) && this.leftDelimiter.equals( otherKey.leftDelimiter ) && this.rightDelimiter.equals(
+                    otherKey.rightDelimiter );
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * ( 31 * this.template.hashCode() + this.leftDelimiter.hashCode() ) + this.rightDelimiter.hashCode();
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package br.com.riteris.octopus.utils;
+
+public final class CountWindowMovingAverage {
+
+    private final double[] window;
+
+    private final MovingWindowAccumulator accumulator;
+
+    private int next;
+
+    private int size;
+
+    public CountWindowMovingAverage( final int windowSize ) {
+        this( windowSize, new MovingWindowAccumulator() );
+    }
+
+    public CountWindowMovingAverage( final int windowSize, final double peakPercentual, final boolean substitutePeakWithAvg ) {
+        this( windowSize, new MovingWindowAccumulator( peakPercentual, substitutePeakWithAvg ) );
+    }
+
+    private CountWindowMovingAverage( final int windowSize, final MovingWindowAccumulator accumulator ) {
+        if ( windowSize <= 0 ) {
+            throw new IllegalArgumentException( "The window size must be greater than 0." );
+        }
+
+        this.window = new double[ windowSize ];
+        this.accumulator = accumulator;
+    }
+
+    public boolean add( final double number ) {
+        final double stored = this.accumulator.admit( number );
+
+        if ( this.size == this.window.length ) {
+            this.accumulator.remove( this.window[ this.next ] );
+        } else {
+            this.size++;
+        }
+
+        this.window[ this.next ] = stored;
+        this.accumulator.add( stored );
+
+        if ( ++this.next == this.window.length ) {
+            this.next = 0;
+        }
+
+        return stored == number;
+    }
+
+    public int getWindowSize() {
+        return this.window.length;
+    }
+
+    public int getSampleCount() {
+        return this.size;
+    }
+
+    public long getRetainedCount() {
+        return this.accumulator.getRetainedCount();
+    }
+
+    public long getTotalSuppressedCount() {
+        return this.accumulator.getTotalSuppressedCount();
+    }
+
+    public boolean isFull() {
+        return this.size == this.window.length;
+    }
+
+    public double getAvg() {
+        return this.accumulator.getAvg();
+    }
+
+    public Number getAvg( final int scale ) {
+        return this.accumulator.getAvg( scale );
+    }
+
+    public void reset() {
+        this.accumulator.clear();
+        this.next = 0;
+        this.size = 0;
+    }
+
+}
@@ -0,0 +1,424 @@
+package br.com.riteris.octopus.utils;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.IntConsumer;
+
+public final class DateIntervalIndex {
+
+    private static final int NO_NODE = -1;
+
+    private final int periodCount;
+
+    private final long[] starts;
+
+    private final long[] ends;
+
+    private final long[] sortedStarts;
+
+    private final int[] periodsByStart;
+
+    private final long[] nodeCenters;
+
+    private final int[] nodeLefts;
+
+    private final int[] nodeRights;
+
+    private final int[] nodeOffsets;
+
+    private final int[] nodeSizes;
+
+    private final int[] nodePeriodsByStart;
+
+    private final int[] nodePeriodsByEnd;
+
+    private final int root;
+
+    private int nodeCount;
+
+    private int nodePeriodCount;
+
+    public DateIntervalIndex( final LocalDate[] periodStartDates, final LocalDate[] periodEndDates, final boolean inclusive ) {
+        this( DateTools.toEpochDays( periodStartDates ), DateTools.toEpochDays( periodEndDates ), inclusive );
+    }
+
+    public DateIntervalIndex( final long[] periodStartEpochDays, final long[] periodEndEpochDays, final boolean inclusive ) {
+        if ( periodStartEpochDays == null || periodEndEpochDays == null ) {
+            throw new IllegalArgumentException( "The period start and end arrays can't be null." );
+        }
+
+        if ( periodStartEpochDays.length != periodEndEpochDays.length ) {
+            throw new IllegalArgumentException( "The period start and end arrays must have the same length." );
+        }
+
+        this.periodCount = periodStartEpochDays.length;
+        this.starts = new long[ this.periodCount ];
+        this.ends = new long[ this.periodCount ];
+
+        int nonEmpty = 0;
+
+        for ( int period = 0; period < this.periodCount; period++ ) {
+            final long start = periodStartEpochDays[ period ];
+            final long end = periodEndEpochDays[ period ];
+
+            if ( inclusive ) {
+                this.starts[ period ] = start;
+                this.ends[ period ] = end;
+            } else if ( start == Long.MAX_VALUE || end == Long.MIN_VALUE ) {
+                this.starts[ period ] = Long.MAX_VALUE;
+                this.ends[ period ] = Long.MIN_VALUE;
+            } else {
+                this.starts[ period ] = start + 1;
+                this.ends[ period ] = end - 1;
+            }
+
+            if ( this.starts[ period ] <= this.ends[ period ] ) {
+                nonEmpty++;
+            }
+        }
+
+        final int[] byStart = new int[ nonEmpty ];
+        final int[] byEnd = new int[ nonEmpty ];
+
+        for ( int period = 0, i = 0; period < this.periodCount; period++ ) {
+            if ( this.starts[ period ] <= this.ends[ period ] ) {
+                byStart[ i ] = period;
+                byEnd[ i++ ] = period;
+            }
+        }
+
+        sortPeriods( byStart, Comparator.comparingLong( period -> this.starts[ period ] ) );
+        sortPeriods( byEnd, Comparator.comparingLong( ( Integer period ) -> this.ends[ period ] ).reversed() );
+
+        this.periodsByStart = byStart;
+        this.sortedStarts = new long[ nonEmpty ];
+
+        for ( int i = 0; i < nonEmpty; i++ ) {
+            this.sortedStarts[ i ] = this.starts[ byStart[ i ] ];
+        }
+
+        this.nodeCenters = new long[ nonEmpty ];
+        this.nodeLefts = new int[ nonEmpty ];
+        this.nodeRights = new int[ nonEmpty ];
+        this.nodeOffsets = new int[ nonEmpty ];
+        this.nodeSizes = new int[ nonEmpty ];
+        this.nodePeriodsByStart = new int[ nonEmpty ];
+        this.nodePeriodsByEnd = new int[ nonEmpty ];
+        this.root = buildNode( byStart, byEnd );
+    }
+
+    private static void sortPeriods( final int[] periods, final Comparator< Integer > comparator ) {
+        final Integer[] boxed = new Integer[ periods.length ];
+
+        for ( int i = 0; i < periods.length; i++ ) {
+            boxed[ i ] = periods[ i ];
+        }
+
+        Arrays.sort( boxed, comparator );
+
+        for ( int i = 0; i < periods.length; i++ ) {
+            periods[ i ] = boxed[ i ];
+        }
+    }
+
+    private int buildNode( final int[] byStart, final int[] byEnd ) {
+        if ( byStart.length == 0 ) {
+            return NO_NODE;
+        }
+
+        final long center = this.starts[ byStart[ byStart.length / 2 ] ];
+        final int node = this.nodeCount++;
+
+        int leftCount = 0;
+        int rightCount = 0;
+
+        for ( int period : byStart ) {
+            if ( this.ends[ period ] < center ) {
+                leftCount++;
+            } else if ( this.starts[ period ] > center ) {
+                rightCount++;
+            }
+        }
+
+        final int[] leftByStart = new int[ leftCount ];
+        final int[] rightByStart = new int[ rightCount ];
+        final int[] leftByEnd = new int[ leftCount ];
+        final int[] rightByEnd = new int[ rightCount ];
+
+        this.nodeCenters[ node ] = center;
+        this.nodeOffsets[ node ] = this.nodePeriodCount;
+        this.nodeSizes[ node ] = byStart.length - leftCount - rightCount;
+
+        int left = 0;
+        int right = 0;
+        int centered = this.nodePeriodCount;
+
+        for ( int period : byStart ) {
+            if ( this.ends[ period ] < center ) {
+                leftByStart[ left++ ] = period;
+            } else if ( this.starts[ period ] > center ) {
+                rightByStart[ right++ ] = period;
+            } else {
+                this.nodePeriodsByStart[ centered++ ] = period;
+            }
+        }
+
+        left = 0;
+        right = 0;
+        centered = this.nodePeriodCount;
+
+        for ( int period : byEnd ) {
+            if ( this.ends[ period ] < center ) {
+                leftByEnd[ left++ ] = period;
+            } else if ( this.starts[ period ] > center ) {
+                rightByEnd[ right++ ] = period;
+            } else {
+                this.nodePeriodsByEnd[ centered++ ] = period;
+            }
+        }
+
+        this.nodePeriodCount = centered;
+        this.nodeLefts[ node ] = buildNode( leftByStart, leftByEnd );
+        this.nodeRights[ node ] = buildNode( rightByStart, rightByEnd );
+
+        return node;
+    }
+
+    public int getPeriodCount() {
+        return this.periodCount;
+    }
+
+    public int[] findContaining( final LocalDate date ) {
+        if ( date == null ) {
+            throw new IllegalArgumentException( "The date can't be null." );
+        }
+
+        return findContaining( date.toEpochDay() );
+    }
+
+    public int[] findContaining( final long epochDay ) {
+        final PeriodBuffer periods = new PeriodBuffer();
+
+        findContaining( epochDay, periods );
+
+        return periods.toArray();
+    }
+
+    public void findContaining( final long epochDay, final IntConsumer consumer ) {
+        if ( consumer == null ) {
+            throw new IllegalArgumentException( "The period consumer can't be null." );
+        }
+
+        int node = this.root;
+
+        while ( node != NO_NODE ) {
+            final long center = this.nodeCenters[ node ];
+            final int offset = this.nodeOffsets[ node ];
+            final int limit = offset + this.nodeSizes[ node ];
+
+            if ( epochDay < center ) {
+                for ( int i = offset; i < limit && this.starts[ this.nodePeriodsByStart[ i ] ] <= epochDay; i++ ) {
+                    consumer.accept( this.nodePeriodsByStart[ i ] );
+                }
+
+                node = this.nodeLefts[ node ];
+            } else if ( epochDay > center ) {
+                for ( int i = offset; i < limit && this.ends[ this.nodePeriodsByEnd[ i ] ] >= epochDay; i++ ) {
+                    consumer.accept( this.nodePeriodsByEnd[ i ] );
+                }
+
+                node = this.nodeRights[ node ];
+            } else {
+                for ( int i = offset; i < limit; i++ ) {
+                    consumer.accept( this.nodePeriodsByStart[ i ] );
+                }
+
+                return;
+            }
+        }
+    }
+
+    public boolean isContainedByAny( final LocalDate date ) {
+        if ( date == null ) {
+            throw new IllegalArgumentException( "The date can't be null." );
+        }
+
+        return isContainedByAny( date.toEpochDay() );
+    }
+
+    public boolean isContainedByAny( final long epochDay ) {
+        int node = this.root;
+
+        while ( node != NO_NODE ) {
+            final long center = this.nodeCenters[ node ];
+            final int offset = this.nodeOffsets[ node ];
+
+            if ( epochDay < center ) {
+                if ( this.starts[ this.nodePeriodsByStart[ offset ] ] <= epochDay ) {
+                    return true;
+                }
+
+                node = this.nodeLefts[ node ];
+            } else if ( epochDay > center ) {
+                if ( this.ends[ this.nodePeriodsByEnd[ offset ] ] >= epochDay ) {
+                    return true;
+                }
+
+                node = this.nodeRights[ node ];
+            } else {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public int[] findOverlapping( final LocalDate rangeStartDate, final LocalDate rangeEndDate ) {
+        if ( rangeStartDate == null || rangeEndDate == null ) {
+            throw new IllegalArgumentException( "The range start and end dates can't be null." );
+        }
+
+        return findOverlapping( rangeStartDate.toEpochDay(), rangeEndDate.toEpochDay() );
+    }
+
+    public int[] findOverlapping( final long rangeStartEpochDay, final long rangeEndEpochDay ) {
+        final PeriodBuffer periods = new PeriodBuffer();
+
+        findOverlapping( rangeStartEpochDay, rangeEndEpochDay, periods );
+
+        return periods.toArray();
+    }
+
+    public void findOverlapping( final long rangeStartEpochDay, final long rangeEndEpochDay, final IntConsumer consumer ) {
+        if ( consumer == null ) {
+            throw new IllegalArgumentException( "The period consumer can't be null." );
+        }
+
+        if ( rangeStartEpochDay > rangeEndEpochDay ) {
+            return;
+        }
+
+        findContaining( rangeStartEpochDay, consumer );
+
+        for ( int i = firstStartAfter( rangeStartEpochDay ); i < this.sortedStarts.length && this.sortedStarts[ i ] <= rangeEndEpochDay; i++ ) {
+            consumer.accept( this.periodsByStart[ i ] );
+        }
+    }
+
+    public boolean overlapsAny( final LocalDate rangeStartDate, final LocalDate rangeEndDate ) {
+        if ( rangeStartDate == null || rangeEndDate == null ) {
+            throw new IllegalArgumentException( "The range start and end dates can't be null." );
+        }
+
+        return overlapsAny( rangeStartDate.toEpochDay(), rangeEndDate.toEpochDay() );
+    }
+
+    public boolean overlapsAny( final long rangeStartEpochDay, final long rangeEndEpochDay ) {
+        if ( rangeStartEpochDay > rangeEndEpochDay ) {
+            return false;
+        }
+
+        if ( isContainedByAny( rangeStartEpochDay ) ) {
+            return true;
+        }
+
+        final int first = firstStartAfter( rangeStartEpochDay );
+
+        return first < this.sortedStarts.length && this.sortedStarts[ first ] <= rangeEndEpochDay;
+    }
+
+    public int[][] findContainingAll( final long[] epochDays ) {
+        if ( epochDays == null ) {
+            throw new IllegalArgumentException( "The epoch days array can't be null." );
+        }
+
+        final int[][] matches = new int[ epochDays.length ][];
+        final PeriodBuffer periods = new PeriodBuffer();
+
+        for ( int query = 0; query < epochDays.length; query++ ) {
+            periods.clear();
+            findContaining( epochDays[ query ], periods );
+            matches[ query ] = periods.toArray();
+        }
+
+        return matches;
+    }
+
+    public void findContainingAll( final long[] epochDays, final MatchConsumer consumer ) {
+        if ( epochDays == null ) {
+            throw new IllegalArgumentException( "The epoch days array can't be null." );
+        }
+
+        if ( consumer == null ) {
+            throw new IllegalArgumentException( "The match consumer can't be null." );
+        }
+
+        for ( int query = 0; query < epochDays.length; query++ ) {
+            final int queryIndex = query;
+
+            findContaining( epochDays[ query ], period -> consumer.accept( queryIndex, period ) );
+        }
+    }
+
+    public int[] countContainingAll( final long[] epochDays ) {
+        if ( epochDays == null ) {
+            throw new IllegalArgumentException( "The epoch days array can't be null." );
+        }
+
+        final int[] counts = new int[ epochDays.length ];
+
+        findContainingAll( epochDays, ( query, period ) -> counts[ query ]++ );
+
+        return counts;
+    }
+
+    private int firstStartAfter( final long epochDay ) {
+        int low = 0;
+        int high = this.sortedStarts.length;
+
+        while ( low < high ) {
+            final int middle = ( low + high ) >>> 1;
+
+            if ( this.sortedStarts[ middle ] <= epochDay ) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    public interface MatchConsumer {
+
+        void accept( int queryIndex, int periodIndex );
+
+    }
+
+    private static final class PeriodBuffer implements IntConsumer {
+
+        private int[] periods = new int[ 16 ];
+
+        private int size;
+
+        @Override
+        public void accept( final int period ) {
+            if ( this.size == this.periods.length ) {
+                this.periods = Arrays.copyOf( this.periods, this.size * 2 );
+            }
+
+            this.periods[ this.size++ ] = period;
+        }
+
+        private void clear() {
+            this.size = 0;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf( this.periods, this.size );
+        }
+
+    }
+
+}
@@ -1,7 +1,8 @@
 package br.com.riteris.octopus.utils;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
 
 public final class DateTools {
 
@@ -13,6 +14,12 @@ public final class DateTools {
             throw new IllegalArgumentException( "The year can't be less than 1." );
         }
 
+        final CalendarTable table = CalendarTable.get();
+
+        if ( table.coversYear( year ) ) {
+            return table.getYearDays( year );
+        }
+
         return LocalDate.of( year, 12, 31 ).getDayOfYear();
     }
 
@@ -21,7 +28,7 @@ public final class DateTools {
             throw new IllegalArgumentException( "The date can't be null." );
         }
 
-        return getDateAtFirstDayOfActualDateMonth( date ).plusMonths( 1 ).minusDays( 1 );
+        return date.withDayOfMonth( date.lengthOfMonth() );
     }
 
     public static LocalDate getDateAtFirstDayOfActualDateMonth( LocalDate date ) {
@@ -29,7 +36,61 @@ public final class DateTools {
             throw new IllegalArgumentException( "The date can't be null." );
         }
 
-        return LocalDate.of( date.getYear(), date.getMonth(), 1 );
+        return date.withDayOfMonth( 1 );
+    }
+
+    public static long getMonthStartEpochDay( long epochDay ) {
+        final CalendarTable table = CalendarTable.get();
+
+        if ( table.coversEpochDay( epochDay ) ) {
+            return table.getMonthStartEpochDay( epochDay );
+        }
+
+        return getDateAtFirstDayOfActualDateMonth( LocalDate.ofEpochDay( epochDay ) ).toEpochDay();
+    }
+
+    public static long getMonthEndEpochDay( long epochDay ) {
+        final CalendarTable table = CalendarTable.get();
+
+        if ( table.coversEpochDay( epochDay ) ) {
+            return table.getMonthEndEpochDay( epochDay );
+        }
+
+        return getDateAtLastDayOfActualDateMonth( LocalDate.ofEpochDay( epochDay ) ).toEpochDay();
+    }
+
+    public static long getMonthStartEpochDay( int year, int month ) {
+        if ( month < 1 || month > 12 ) {
+            throw new IllegalArgumentException( "The month must be between 1 and 12." );
+        }
+
+        final CalendarTable table = CalendarTable.get();
+
+        if ( table.coversYear( year ) ) {
+            return table.getMonthStartEpochDay( year, month );
+        }
+
+        return LocalDate.of( year, month, 1 ).toEpochDay();
+    }
+
+    public static long getMonthEndEpochDay( int year, int month ) {
+        if ( month < 1 || month > 12 ) {
+            throw new IllegalArgumentException( "The month must be between 1 and 12." );
+        }
+
+        final CalendarTable table = CalendarTable.get();
+
+        if ( table.coversYear( year ) ) {
+            return table.getMonthEndEpochDay( year, month );
+        }
+
+        final LocalDate monthStart = LocalDate.of( year, month, 1 );
+
+        return monthStart.toEpochDay() + monthStart.lengthOfMonth() - 1;
+    }
+
+    public static DayOfWeek getDayOfWeek( long epochDay ) {
+        return DayOfWeek.of( ( int ) Math.floorMod( epochDay + 3, 7L ) + 1 );
     }
 
     public static boolean isDateBetweenPeriodInclusive( LocalDate date, LocalDate periodStartDate, LocalDate periodEndDate ) {
@@ -45,7 +106,11 @@ public final class DateTools {
             throw new IllegalArgumentException( "The date of period end can't be null." );
         }
 
-        return dateIsEqualOrAfterExcludingTimeInfo( date, periodStartDate ) && dateIsEqualOrBeforeExcludingTimeInfo( date, periodEndDate );
+        return isDateBetweenPeriodInclusive( date.toEpochDay(), periodStartDate.toEpochDay(), periodEndDate.toEpochDay() );
+    }
+
+    public static boolean isDateBetweenPeriodInclusive( long epochDay, long periodStartEpochDay, long periodEndEpochDay ) {
+        return epochDay >= periodStartEpochDay && epochDay <= periodEndEpochDay;
     }
 
     public static boolean dateIsEqualOrAfterExcludingTimeInfo( LocalDate date, LocalDate referenceDate ) {
@@ -53,7 +118,11 @@ public final class DateTools {
             throw new IllegalArgumentException( "The date objects to be compared can't be null." );
         }
 
-        return isSameDateExcludingTimeInfo( date, referenceDate ) || dateIsAfterExcludingTimeInfo( date, referenceDate );
+        return dateIsEqualOrAfterExcludingTimeInfo( date.toEpochDay(), referenceDate.toEpochDay() );
+    }
+
+    public static boolean dateIsEqualOrAfterExcludingTimeInfo( long epochDay, long referenceEpochDay ) {
+        return epochDay >= referenceEpochDay;
     }
 
     public static boolean dateIsEqualOrBeforeExcludingTimeInfo( LocalDate date, LocalDate referenceDate ) {
@@ -61,7 +130,11 @@ public final class DateTools {
             throw new IllegalArgumentException( "The date objects to be compared can't be null." );
         }
 
-        return isSameDateExcludingTimeInfo( date, referenceDate ) || dateIsBeforeExcludingTimeInfo( date, referenceDate );
+        return dateIsEqualOrBeforeExcludingTimeInfo( date.toEpochDay(), referenceDate.toEpochDay() );
+    }
+
+    public static boolean dateIsEqualOrBeforeExcludingTimeInfo( long epochDay, long referenceEpochDay ) {
+        return epochDay <= referenceEpochDay;
     }
 
     public static boolean isSameDateExcludingTimeInfo( LocalDate firstDate, LocalDate secondDate ) {
@@ -69,7 +142,11 @@ public final class DateTools {
             throw new IllegalArgumentException( "The date objects to be compared can't be null." );
         }
 
-        return ChronoUnit.DAYS.between( firstDate, secondDate ) == 0;
+        return isSameDateExcludingTimeInfo( firstDate.toEpochDay(), secondDate.toEpochDay() );
+    }
+
+    public static boolean isSameDateExcludingTimeInfo( long firstEpochDay, long secondEpochDay ) {
+        return firstEpochDay == secondEpochDay;
     }
 
     public static boolean dateIsAfterExcludingTimeInfo( LocalDate date, LocalDate referenceDate ) {
@@ -77,7 +154,11 @@ public final class DateTools {
             throw new IllegalArgumentException( "The date objects to be compared can't be null." );
         }
 
-        return ChronoUnit.DAYS.between( date, referenceDate ) < 0;
+        return dateIsAfterExcludingTimeInfo( date.toEpochDay(), referenceDate.toEpochDay() );
+    }
+
+    public static boolean dateIsAfterExcludingTimeInfo( long epochDay, long referenceEpochDay ) {
+        return epochDay > referenceEpochDay;
     }
 
     public static boolean dateIsBeforeExcludingTimeInfo( LocalDate date, LocalDate referenceDate ) {
@@ -85,7 +166,11 @@ public final class DateTools {
             throw new IllegalArgumentException( "The date objects to be compared can't be null." );
         }
 
-        return ChronoUnit.DAYS.between( date, referenceDate ) > 0;
+        return dateIsBeforeExcludingTimeInfo( date.toEpochDay(), referenceDate.toEpochDay() );
+    }
+
+    public static boolean dateIsBeforeExcludingTimeInfo( long epochDay, long referenceEpochDay ) {
+        return epochDay < referenceEpochDay;
     }
 
     public static boolean isDateBetweenPeriodExclusive( LocalDate date, LocalDate periodStartDate, LocalDate periodEndDate ) {
@@ -101,7 +186,85 @@ public final class DateTools {
             throw new IllegalArgumentException( "The date of period end can't be null." );
         }
 
-        return dateIsAfterExcludingTimeInfo( date, periodStartDate ) && dateIsBeforeExcludingTimeInfo( date, periodEndDate );
+        return isDateBetweenPeriodExclusive( date.toEpochDay(), periodStartDate.toEpochDay(), periodEndDate.toEpochDay() );
+    }
+
+    public static boolean isDateBetweenPeriodExclusive( long epochDay, long periodStartEpochDay, long periodEndEpochDay ) {
+        return epochDay > periodStartEpochDay && epochDay < periodEndEpochDay;
+    }
+
+    public static long[] toEpochDays( LocalDate[] dates ) {
+        if ( dates == null ) {
+            throw new IllegalArgumentException( "The dates array can't be null." );
+        }
+
+        final long[] epochDays = new long[ dates.length ];
+
+        for ( int i = 0; i < dates.length; i++ ) {
+            if ( dates[ i ] == null ) {
+                throw new IllegalArgumentException( "The dates array can't contain null dates." );
+            }
+
+            epochDays[ i ] = dates[ i ].toEpochDay();
+        }
+
+        return epochDays;
+    }
+
+    public static BitSet filterBetweenInclusive( long[] epochDays, long periodStartEpochDay, long periodEndEpochDay ) {
+        if ( epochDays == null ) {
+            throw new IllegalArgumentException( "The epoch days array can't be null." );
+        }
+
+        return filterBetween( epochDays, periodStartEpochDay, periodEndEpochDay );
+    }
+
+    public static BitSet filterBetweenExclusive( long[] epochDays, long periodStartEpochDay, long periodEndEpochDay ) {
+        if ( epochDays == null ) {
+            throw new IllegalArgumentException( "The epoch days array can't be null." );
+        }
+
+        if ( periodStartEpochDay == Long.MAX_VALUE || periodEndEpochDay == Long.MIN_VALUE ) {
+            return new BitSet();
+        }
+
+        return filterBetween( epochDays, periodStartEpochDay + 1, periodEndEpochDay - 1 );
+    }
+
+    public static int countBetweenInclusive( long[] epochDays, long periodStartEpochDay, long periodEndEpochDay ) {
+        if ( epochDays == null ) {
+            throw new IllegalArgumentException( "The epoch days array can't be null." );
+        }
+
+        int count = 0;
+
+        for ( long epochDay : epochDays ) {
+            count += ( epochDay >= periodStartEpochDay ? 1 : 0 ) & ( epochDay <= periodEndEpochDay ? 1 : 0 );
+        }
+
+        return count;
+    }
+
+    private static BitSet filterBetween( final long[] epochDays, final long lowerEpochDay, final long upperEpochDay ) {
+        final long[] words = new long[ ( epochDays.length + 63 ) >>> 6 ];
+
+        for ( int word = 0; word < words.length; word++ ) {
+            final int offset = word << 6;
+            final int limit = Math.min( 64, epochDays.length - offset );
+
+            long bits = 0L;
+
+            for ( int bit = 0; bit < limit; bit++ ) {
+                final long epochDay = epochDays[ offset + bit ];
+                final long inside = ( epochDay >= lowerEpochDay ? 1L : 0L ) & ( epochDay <= upperEpochDay ? 1L : 0L );
+
+                bits |= inside << bit;
+            }
+
+            words[ word ] = bits;
+        }
+
+        return BitSet.valueOf( words );
     }
 
 }
@@ -0,0 +1,204 @@
+package br.com.riteris.octopus.utils;
+
+import java.math.BigDecimal;
+
+public final class FixedPointAccumulator {
+
+    public static final int DEFAULT_SCALE = 8;
+
+    private static final int MAXIMUM_SCALE = 18;
+
+    private static final long MAXIMUM_EXACT_DOUBLE_INTEGER = 1L << 53;
+
+    static final long NOT_REPRESENTABLE = Long.MIN_VALUE;
+
+    private static final long[] POWERS_OF_TEN = new long[ MAXIMUM_SCALE + 1 ];
+
+    private static final long[] MAXIMUM_UNITS = new long[ MAXIMUM_SCALE + 1 ];
+
+    static {
+        POWERS_OF_TEN[ 0 ] = 1;
+
+        for ( int i = 1; i < POWERS_OF_TEN.length; i++ ) {
+            POWERS_OF_TEN[ i ] = POWERS_OF_TEN[ i - 1 ] * 10;
+        }
+
+        for ( int i = 0; i < MAXIMUM_UNITS.length; i++ ) {
+            MAXIMUM_UNITS[ i ] = Long.MAX_VALUE / POWERS_OF_TEN[ i ];
+        }
+    }
+
+    private final int scale;
+
+    private final LongSum mantissa = new LongSum();
+
+    private BigDecimal excess;
+
+    private long count;
+
+    public FixedPointAccumulator() {
+        this( DEFAULT_SCALE );
+    }
+
+    public FixedPointAccumulator( final int scale ) {
+        if ( scale < 0 || scale > MAXIMUM_SCALE ) {
+            throw new IllegalArgumentException( "The scale must be between 0 and " + MAXIMUM_SCALE + "." );
+        }
+
+        this.scale = scale;
+    }
+
+    public FixedPointAccumulator add( final long number ) {
+        final long units = toUnits( number, this.scale );
+
+        if ( units != NOT_REPRESENTABLE ) {
+            this.mantissa.add( units );
+        } else {
+            addExcess( BigDecimal.valueOf( number ) );
+        }
+
+        this.count++;
+
+        return this;
+    }
+
+    public FixedPointAccumulator add( final double number ) {
+        final long units = toUnits( number, this.scale );
+
+        if ( units != NOT_REPRESENTABLE ) {
+            this.mantissa.add( units );
+        } else {
+            addExcess( BigDecimal.valueOf( number ) );
+        }
+
+        this.count++;
+
+        return this;
+    }
+
+    public FixedPointAccumulator add( final BigDecimal number ) {
+        if ( number == null ) {
+            throw new IllegalArgumentException( "The number can't be null." );
+        }
+
+        if ( number.scale() <= this.scale && number.precision() - number.scale() + this.scale <= MAXIMUM_SCALE ) {
+            this.mantissa.add( number.movePointRight( this.scale ).longValueExact() );
+        } else {
+            addExcess( number );
+        }
+
+        this.count++;
+
+        return this;
+    }
+
+    public FixedPointAccumulator add( final FixedPointAccumulator other ) {
+        if ( other == null ) {
+            throw new IllegalArgumentException( "The accumulator to add can't be null." );
+        }
+
+        if ( other.scale == this.scale ) {
+            this.mantissa.combine( other.mantissa );
+
+            if ( other.excess != null ) {
+                addExcess( other.excess );
+            }
+        } else {
+            addExcess( other.getSum() );
+        }
+
+        this.count += other.count;
+
+        return this;
+    }
+
+    public void reset() {
+        this.mantissa.clear();
+        this.excess = null;
+        this.count = 0;
+    }
+
+    public int getScale() {
+        return this.scale;
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+
+    public BigDecimal getSum() {
+        final BigDecimal sum = this.mantissa.fitsInLong() ? BigDecimal.valueOf( this.mantissa.getLongSum(), this.scale ) :
+                this.mantissa.getSum().movePointLeft( this.scale );
+
+        return this.excess == null ? sum : sum.add( this.excess );
+    }
+
+    public BigDecimal getAvg( final int scale ) {
+        if ( scale < 0 ) {
+            throw new IllegalArgumentException( "The scale can't be negative." );
+        }
+
+        if ( this.count == 0 ) {
+            throw new IllegalStateException( "There are no numbers to calculate the average." );
+        }
+
+        if ( this.excess == null && this.mantissa.fitsInLong() ) {
+            final long sum = this.mantissa.getLongSum();
+
+            if ( sum == Long.MIN_VALUE ) {
+                return getSum().divide( BigDecimal.valueOf( this.count ), scale, BigDecimal.ROUND_HALF_UP );
+            }
+
+            if ( scale >= this.scale && scale - this.scale <= MAXIMUM_SCALE ) {
+                final long factor = POWERS_OF_TEN[ scale - this.scale ];
+
+                if ( Math.abs( sum ) <= Long.MAX_VALUE / factor ) {
+                    return BigDecimal.valueOf( divideHalfUp( sum * factor, this.count ), scale );
+                }
+            } else if ( scale < this.scale && this.count <= Long.MAX_VALUE / POWERS_OF_TEN[ this.scale - scale ] ) {
+                return BigDecimal.valueOf( divideHalfUp( sum, this.count * POWERS_OF_TEN[ this.scale - scale ] ), scale );
+            }
+        }
+
+        return getSum().divide( BigDecimal.valueOf( this.count ), scale, BigDecimal.ROUND_HALF_UP );
+    }
+
+    static long toUnits( final long number, final int scale ) {
+        return number <= MAXIMUM_UNITS[ scale ] && number >= -MAXIMUM_UNITS[ scale ] ? number * POWERS_OF_TEN[ scale ] : NOT_REPRESENTABLE;
+    }
+
+    static long toUnits( final double number, final int scale ) {
+        if ( Double.isNaN( number ) || Double.isInfinite( number ) ) {
+            throw new IllegalArgumentException( "The number can't be NaN or infinite." );
+        }
+
+        if ( number == Math.rint( number ) && Math.abs( number ) < MAXIMUM_EXACT_DOUBLE_INTEGER ) {
+            return toUnits( ( long ) number, scale );
+        }
+
+        final double unitFactor = POWERS_OF_TEN[ scale ];
+        final double scaled = Math.rint( number * unitFactor );
+
+        if ( Math.abs( scaled ) < MAXIMUM_EXACT_DOUBLE_INTEGER && Math.ulp( number ) * unitFactor < 1 && scaled / unitFactor == number ) {
+            return ( long ) scaled;
+        }
+
+        return NOT_REPRESENTABLE;
+    }
+
+    static long divideHalfUp( final long dividend, final long divisor ) {
+        final long quotient = dividend / divisor;
+        final long remainder = Math.abs( dividend % divisor );
+
+        if ( remainder >= divisor - remainder ) {
+            return dividend < 0 ? quotient - 1 : quotient + 1;
+        }
+
+        return quotient;
+    }
+
+    private void addExcess( final BigDecimal number ) {
+        this.excess = this.excess == null ? number : this.excess.add( number );
+    }
+
+}
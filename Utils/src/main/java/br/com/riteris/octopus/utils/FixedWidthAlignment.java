@@ -0,0 +1,8 @@
+package br.com.riteris.octopus.utils;
+
+public enum FixedWidthAlignment {
+
+    LEFT,
+    RIGHT
+
+}
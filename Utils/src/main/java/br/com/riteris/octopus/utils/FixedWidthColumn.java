@@ -0,0 +1,78 @@
+package br.com.riteris.octopus.utils;
+
+import static br.com.riteris.octopus.utils.StringTools.stringIsNullOrEmptyOrBlank;
+
+public final class FixedWidthColumn {
+
+    private final String name;
+
+    private final int offset;
+
+    private final int width;
+
+    private final FixedWidthAlignment alignment;
+
+    private final char fillCharacter;
+
+    public FixedWidthColumn( final String name, final int offset, final int width, final FixedWidthAlignment alignment, final char fillCharacter ) {
+        if ( stringIsNullOrEmptyOrBlank( name ) ) {
+            throw new IllegalArgumentException( "The column name can't be null, empty or blank." );
+        }
+
+        if ( offset < 0 ) {
+            throw new IllegalArgumentException( "The column offset can't be negative." );
+        }
+
+        if ( width <= 0 ) {
+            throw new IllegalArgumentException( "The column width must be greater than 0." );
+        }
+
+        if ( alignment == null ) {
+            throw new IllegalArgumentException( "The column alignment can't be null." );
+        }
+
+        this.name = name;
+        this.offset = offset;
+        this.width = width;
+        this.alignment = alignment;
+        this.fillCharacter = fillCharacter;
+    }
+
+    public static FixedWidthColumn text( final String name, final int offset, final int width ) {
+        return new FixedWidthColumn( name, offset, width, FixedWidthAlignment.LEFT, ' ' );
+    }
+
+    public static FixedWidthColumn numeric( final String name, final int offset, final int width ) {
+        return new FixedWidthColumn( name, offset, width, FixedWidthAlignment.RIGHT, '0' );
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public int getOffset() {
+        return this.offset;
+    }
+
+    public int getWidth() {
+        return this.width;
+    }
+
+    public int getEnd() {
+        return this.offset + this.width;
+    }
+
+    public FixedWidthAlignment getAlignment() {
+        return this.alignment;
+    }
+
+    public char getFillCharacter() {
+        return this.fillCharacter;
+    }
+
+    @Override
+    public String toString() {
+        return this.name + "[" + this.offset + ", " + getEnd() + ")";
+    }
+
+}
@@ -0,0 +1,185 @@
+package br.com.riteris.octopus.utils;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static br.com.riteris.octopus.utils.AppendableBuffer.appendChars;
+import static br.com.riteris.octopus.utils.StringTools.copyChars;
+
+public final class FixedWidthFormatter implements CharSequence {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 256;
+
+    private char[] record;
+
+    private int length;
+
+    public FixedWidthFormatter() {
+        this( DEFAULT_INITIAL_CAPACITY );
+    }
+
+    public FixedWidthFormatter( final int initialCapacity ) {
+        if ( initialCapacity <= 0 ) {
+            throw new IllegalArgumentException( "The initial capacity must be greater than 0." );
+        }
+
+        this.record = new char[ initialCapacity ];
+    }
+
+    public FixedWidthFormatter appendFilledAtLeft( final CharSequence value, final int width ) {
+        return appendFilled( value, width, ' ', true );
+    }
+
+    public FixedWidthFormatter appendFilledAtRight( final CharSequence value, final int width ) {
+        return appendFilled( value, width, ' ', false );
+    }
+
+    public FixedWidthFormatter appendFilled( final CharSequence value, final int width, final char fillCharacter, final boolean atLeft ) {
+        final CharSequence chars = value != null ? value : "";
+
+        checkColumn( width, width - chars.length() );
+        ensureCapacity( width );
+
+        this.length = fill( chars, width, fillCharacter, atLeft, this.record, this.length );
+
+        return this;
+    }
+
+    public FixedWidthFormatter appendFilledAtLeft( final long value, final int width, final char fillCharacter ) {
+        checkColumn( width, 0 );
+        ensureCapacity( width );
+
+        this.length = fillDigits( value, width, fillCharacter, true, this.record, this.length );
+
+        return this;
+    }
+
+    static int fill( final CharSequence value, final int width, final char fillCharacter, final boolean atLeft, final char[] target, final int offset ) {
+        final CharSequence chars = value != null ? value : "";
+        final int fillLength = width - chars.length();
+
+        checkColumn( width, fillLength );
+
+        if ( atLeft ) {
+            Arrays.fill( target, offset, offset + fillLength, fillCharacter );
+            copyChars( chars, target, offset + fillLength );
+        } else {
+            Arrays.fill( target, copyChars( chars, target, offset ), offset + width, fillCharacter );
+        }
+
+        return offset + width;
+    }
+
+    static int fillDigits( long value, final int width, final char fillCharacter, final boolean atLeft, final char[] target, final int offset ) {
+        if ( value < 0 ) {
+            throw new IllegalArgumentException( "The numeric value can't be negative." );
+        }
+
+        final int digits = countDigits( value );
+        final int end = offset + width;
+
+        checkColumn( width, width - digits );
+
+        final int digitsStart = atLeft ? end - digits : offset;
+
+        for ( int i = digitsStart + digits - 1; i >= digitsStart; i-- ) {
+            target[ i ] = ( char ) ( '0' + value % 10 );
+            value /= 10;
+        }
+
+        Arrays.fill( target, offset, digitsStart, fillCharacter );
+        Arrays.fill( target, digitsStart + digits, end, fillCharacter );
+
+        return end;
+    }
+
+    public FixedWidthFormatter appendFilling( final char fillCharacter, final int width ) {
+        checkColumn( width, width );
+        ensureCapacity( width );
+
+        Arrays.fill( this.record, this.length, this.length + width, fillCharacter );
+        this.length += width;
+
+        return this;
+    }
+
+    public FixedWidthFormatter append( final CharSequence value ) {
+        final CharSequence chars = value != null ? value : "";
+
+        ensureCapacity( chars.length() );
+
+        this.length = copyChars( chars, this.record, this.length );
+
+        return this;
+    }
+
+    public FixedWidthFormatter reset() {
+        this.length = 0;
+
+        return this;
+    }
+
+    public void writeTo( final Appendable target ) throws IOException {
+        if ( target == null ) {
+            throw new IllegalArgumentException( "The target can't be null." );
+        }
+
+        appendChars( target, this.record, 0, this.length );
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public char charAt( final int index ) {
+        if ( index < 0 || index >= this.length ) {
+            throw new IndexOutOfBoundsException( "Index " + index + " is out of the record bounds." );
+        }
+
+        return this.record[ index ];
+    }
+
+    @Override
+    public CharSequence subSequence( final int start, final int end ) {
+        if ( start < 0 || end > this.length || start > end ) {
+            throw new IndexOutOfBoundsException( "Range [" + start + ", " + end + ") is out of the record bounds." );
+        }
+
+        return new String( this.record, start, end - start );
+    }
+
+    @Override
+    public String toString() {
+        return new String( this.record, 0, this.length );
+    }
+
+    private static void checkColumn( final int width, final int fillLength ) {
+        if ( width <= 0 ) {
+            throw new IllegalArgumentException( "The column width must be greater than 0." );
+        }
+
+        if ( fillLength < 0 ) {
+            throw new IllegalArgumentException( "The value length exceeds the column width of " + width + "." );
+        }
+    }
+
+    private static int countDigits( long value ) {
+        int digits = 1;
+
+        while ( value >= 10 ) {
+            value /= 10;
+            digits++;
+        }
+
+        return digits;
+    }
+
+    private void ensureCapacity( final int additionalLength ) {
+        if ( this.length + additionalLength > this.record.length ) {
+            this.record = Arrays.copyOf( this.record, Math.max( this.record.length * 2, this.length + additionalLength ) );
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package br.com.riteris.octopus.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static br.com.riteris.octopus.utils.CollectionAndMapTools.collectionIsNullOrEmpty;
+
+public final class FixedWidthLayout {
+
+    private final int recordLength;
+
+    private final FixedWidthColumn[] columns;
+
+    private final Map< String, Integer > columnIndexes;
+
+    private final char[] blankRecord;
+
+    public FixedWidthLayout( final int recordLength, final FixedWidthColumn... columns ) {
+        this( recordLength, columns != null ? Arrays.asList( columns ) : null );
+    }
+
+    public FixedWidthLayout( final int recordLength, final List< FixedWidthColumn > columns ) {
+        if ( recordLength <= 0 ) {
+            throw new IllegalArgumentException( "The record length must be greater than 0." );
+        }
+
+        if ( collectionIsNullOrEmpty( columns ) ) {
+            throw new IllegalArgumentException( "The columns list can't be null or empty." );
+        }
+
+        this.recordLength = recordLength;
+        this.columns = columns.toArray( new FixedWidthColumn[ columns.size() ] );
+        this.columnIndexes = new HashMap<>();
+        this.blankRecord = new char[ recordLength ];
+
+        Arrays.fill( this.blankRecord, ' ' );
+
+        for ( int i = 0; i < this.columns.length; i++ ) {
+            final FixedWidthColumn column = this.columns[ i ];
+
+            if ( column == null ) {
+                throw new IllegalArgumentException( "The columns list can't contain null columns." );
+            }
+
+            if ( column.getEnd() > recordLength ) {
+                throw new IllegalArgumentException( "The column " + column + " exceeds the record length of " + recordLength + "." );
+            }
+
+            if ( this.columnIndexes.put( column.getName(), i ) != null ) {
+                throw new IllegalArgumentException( "The column name " + column.getName() + " is duplicated." );
+            }
+
+            Arrays.fill( this.blankRecord, column.getOffset(), column.getEnd(), column.getFillCharacter() );
+        }
+
+        final List< FixedWidthColumn > sortedColumns = new ArrayList<>( columns );
+        Collections.sort( sortedColumns, Comparator.comparingInt( FixedWidthColumn::getOffset ) );
+
+        for ( int i = 1; i < sortedColumns.size(); i++ ) {
+            if ( sortedColumns.get( i ).getOffset() < sortedColumns.get( i - 1 ).getEnd() ) {
+                throw new IllegalArgumentException( "The columns " + sortedColumns.get( i - 1 ) + " and " + sortedColumns.get( i ) + " overlap." );
+            }
+        }
+    }
+
+    public int getRecordLength() {
+        return this.recordLength;
+    }
+
+    public int getColumnCount() {
+        return this.columns.length;
+    }
+
+    public FixedWidthColumn getColumn( final int index ) {
+        if ( index < 0 || index >= this.columns.length ) {
+            throw new IllegalArgumentException( "There is no column at index " + index + "." );
+        }
+
+        return this.columns[ index ];
+    }
+
+    public int getColumnIndex( final String name ) {
+        final Integer index = this.columnIndexes.get( name );
+
+        if ( index == null ) {
+            throw new IllegalArgumentException( "There is no column named " + name + "." );
+        }
+
+        return index;
+    }
+
+    void copyBlankRecord( final char[] target ) {
+        System.arraycopy( this.blankRecord, 0, target, 0, this.recordLength );
+    }
+
+}
@@ -0,0 +1,248 @@
+package br.com.riteris.octopus.utils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+public final class FixedWidthRecord {
+
+    private static final int MAXIMUM_LONG_DIGITS = 18;
+
+    private final FixedWidthLayout layout;
+
+    private final char[] decodingTable;
+
+    private final FieldView[] fieldViews;
+
+    private ByteBuffer source;
+
+    private int recordStart;
+
+    private long recordNumber;
+
+    FixedWidthRecord( final FixedWidthLayout layout, final char[] decodingTable ) {
+        this.layout = layout;
+        this.decodingTable = decodingTable;
+        this.fieldViews = new FieldView[ layout.getColumnCount() ];
+
+        for ( int i = 0; i < this.fieldViews.length; i++ ) {
+            this.fieldViews[ i ] = new FieldView();
+        }
+    }
+
+    void moveTo( final ByteBuffer source, final int recordStart ) {
+        this.source = source;
+        this.recordStart = recordStart;
+        this.recordNumber++;
+    }
+
+    public long getRecordNumber() {
+        return this.recordNumber;
+    }
+
+    public CharSequence getField( final String columnName ) {
+        return getField( this.layout.getColumnIndex( columnName ) );
+    }
+
+    public CharSequence getField( final int columnIndex ) {
+        final FixedWidthColumn column = this.layout.getColumn( columnIndex );
+        final char fillCharacter = column.getFillCharacter();
+
+        int start = this.recordStart + column.getOffset();
+        int end = this.recordStart + column.getEnd();
+
+        if ( column.getAlignment() == FixedWidthAlignment.LEFT ) {
+            while ( end > start && decode( end - 1 ) == fillCharacter ) {
+                end--;
+            }
+        } else {
+            while ( start < end && decode( start ) == fillCharacter ) {
+                start++;
+            }
+        }
+
+        return this.fieldViews[ columnIndex ].moveTo( start, end );
+    }
+
+    public String getString( final String columnName ) {
+        return getString( this.layout.getColumnIndex( columnName ) );
+    }
+
+    public String getString( final int columnIndex ) {
+        return getField( columnIndex ).toString();
+    }
+
+    public boolean isBlank( final String columnName ) {
+        return isBlank( this.layout.getColumnIndex( columnName ) );
+    }
+
+    public boolean isBlank( final int columnIndex ) {
+        final FixedWidthColumn column = this.layout.getColumn( columnIndex );
+
+        for ( int i = this.recordStart + column.getOffset(); i < this.recordStart + column.getEnd(); i++ ) {
+            if ( decode( i ) != ' ' ) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public int getInt( final String columnName ) {
+        return getInt( this.layout.getColumnIndex( columnName ) );
+    }
+
+    public int getInt( final int columnIndex ) {
+        final long value = getLong( columnIndex );
+
+        if ( value < Integer.MIN_VALUE || value > Integer.MAX_VALUE ) {
+            throw numberFormatError( columnIndex );
+        }
+
+        return ( int ) value;
+    }
+
+    public long getLong( final String columnName ) {
+        return getLong( this.layout.getColumnIndex( columnName ) );
+    }
+
+    public long getLong( final int columnIndex ) {
+        final FixedWidthColumn column = this.layout.getColumn( columnIndex );
+        final int end = trimBlanksAtRight( this.recordStart + column.getOffset(), this.recordStart + column.getEnd() );
+
+        int position = trimBlanksAtLeft( this.recordStart + column.getOffset(), end );
+        boolean negative = false;
+
+        if ( position < end && ( decode( position ) == '-' || decode( position ) == '+' ) ) {
+            negative = decode( position ) == '-';
+            position++;
+        }
+
+        if ( position == end ) {
+            throw numberFormatError( columnIndex );
+        }
+
+        long value = 0;
+
+        for ( ; position < end; position++ ) {
+            final int digit = decode( position ) - '0';
+
+            if ( digit < 0 || digit > 9 || value > ( Long.MAX_VALUE - digit ) / 10 ) {
+                throw numberFormatError( columnIndex );
+            }
+
+            value = value * 10 + digit;
+        }
+
+        return negative ? -value : value;
+    }
+
+    public BigDecimal getDecimal( final String columnName, final int scale ) {
+        return getDecimal( this.layout.getColumnIndex( columnName ), scale );
+    }
+
+    public BigDecimal getDecimal( final int columnIndex, final int scale ) {
+        if ( scale < 0 ) {
+            throw new IllegalArgumentException( "The scale can't be negative." );
+        }
+
+        final FixedWidthColumn column = this.layout.getColumn( columnIndex );
+
+        if ( column.getWidth() <= MAXIMUM_LONG_DIGITS ) {
+            return BigDecimal.valueOf( getLong( columnIndex ), scale );
+        }
+
+        final int start = this.recordStart + column.getOffset();
+        final String digits = new FieldView().moveTo( trimBlanksAtLeft( start, start + column.getWidth() ), trimBlanksAtRight( start,
+                start + column.getWidth() ) ).toString();
+
+        try {
+            return new BigDecimal( new BigInteger( digits ), scale );
+        } catch ( NumberFormatException e ) {
+            throw numberFormatError( columnIndex );
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new FieldView().moveTo( this.recordStart, this.recordStart + this.layout.getRecordLength() ).toString();
+    }
+
+    private char decode( final int index ) {
+        return this.decodingTable[ this.source.get( index ) & 0xFF ];
+    }
+
+    private int trimBlanksAtLeft( int start, final int end ) {
+        while ( start < end && decode( start ) == ' ' ) {
+            start++;
+        }
+
+        return start;
+    }
+
+    private int trimBlanksAtRight( final int start, int end ) {
+        while ( end > start && decode( end - 1 ) == ' ' ) {
+            end--;
+        }
+
+        return end;
+    }
+
+    private NumberFormatException numberFormatError( final int columnIndex ) {
+        final FixedWidthColumn column = this.layout.getColumn( columnIndex );
+        final String value = new FieldView().moveTo( this.recordStart + column.getOffset(), this.recordStart + column.getEnd() ).toString();
+
+        return new NumberFormatException( "The column " + column + " of record " + this.recordNumber + " doesn't hold a valid number: '" + value +
+                "'." );
+    }
+
+    private final class FieldView implements CharSequence {
+
+        private int start;
+
+        private int end;
+
+        private FieldView moveTo( final int start, final int end ) {
+            this.start = start;
+            this.end = end;
+
+            return this;
+        }
+
+        @Override
+        public int length() {
+            return this.end - this.start;
+        }
+
+        @Override
+        public char charAt( final int index ) {
+            if ( index < 0 || index >= length() ) {
+                throw new IndexOutOfBoundsException( "Index " + index + " is out of the field bounds." );
+            }
+
+            return decode( this.start + index );
+        }
+
+        @Override
+        public CharSequence subSequence( final int start, final int end ) {
+            if ( start < 0 || end > length() || start > end ) {
+                throw new IndexOutOfBoundsException( "Range [" + start + ", " + end + ") is out of the field bounds." );
+            }
+
+            return new FieldView().moveTo( this.start + start, this.start + end );
+        }
+
+        @Override
+        public String toString() {
+            final char[] chars = new char[ length() ];
+
+            for ( int i = 0; i < chars.length; i++ ) {
+                chars[ i ] = decode( this.start + i );
+            }
+
+            return new String( chars );
+        }
+
+    }
+
+}
@@ -0,0 +1,141 @@
+package br.com.riteris.octopus.utils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public final class FixedWidthRecordReader implements Closeable {
+
+    private static final int DEFAULT_MAPPING_SIZE = 64 << 20;
+
+    private final FileChannel channel;
+
+    private final long fileSize;
+
+    private final int recordLength;
+
+    private final int mappingSize;
+
+    private final FixedWidthRecord record;
+
+    private ByteBuffer mapping;
+
+    private long mappingStart;
+
+    private int position;
+
+    public FixedWidthRecordReader( final Path file, final FixedWidthLayout layout, final Charset charset ) throws IOException {
+        this( file, layout, charset, DEFAULT_MAPPING_SIZE );
+    }
+
+    public FixedWidthRecordReader( final Path file, final FixedWidthLayout layout, final Charset charset, final int mappingSize ) throws IOException {
+        if ( file == null ) {
+            throw new IllegalArgumentException( "The file can't be null." );
+        }
+
+        if ( layout == null ) {
+            throw new IllegalArgumentException( "The layout can't be null." );
+        }
+
+        if ( charset == null ) {
+            throw new IllegalArgumentException( "The charset can't be null." );
+        }
+
+        if ( charset.newEncoder().maxBytesPerChar() != 1.0f ) {
+            throw new IllegalArgumentException( "The charset " + charset.name() + " doesn't encode each character in a single byte." );
+        }
+
+        if ( mappingSize < layout.getRecordLength() ) {
+            throw new IllegalArgumentException( "The mapping size can't be smaller than a whole record." );
+        }
+
+        this.recordLength = layout.getRecordLength();
+        this.mappingSize = mappingSize;
+        this.record = new FixedWidthRecord( layout, buildDecodingTable( charset ) );
+        this.channel = FileChannel.open( file, StandardOpenOption.READ );
+
+        try {
+            this.fileSize = this.channel.size();
+
+            map( 0 );
+        } catch ( IOException e ) {
+            this.channel.close();
+
+            throw e;
+        }
+    }
+
+    private static char[] buildDecodingTable( final Charset charset ) throws CharacterCodingException {
+        final CharsetDecoder decoder = charset.newDecoder().onMalformedInput( CodingErrorAction.REPLACE ).onUnmappableCharacter( CodingErrorAction.REPLACE );
+        final char[] table = new char[ 256 ];
+        final ByteBuffer singleByte = ByteBuffer.allocate( 1 );
+
+        for ( int i = 0; i < table.length; i++ ) {
+            singleByte.clear();
+            singleByte.put( ( byte ) i ).flip();
+
+            final CharBuffer decoded = decoder.reset().decode( singleByte );
+
+            table[ i ] = decoded.hasRemaining() ? decoded.get() : '\uFFFD';
+        }
+
+        return table;
+    }
+
+    public boolean next() throws IOException {
+        while ( true ) {
+            if ( this.position >= this.mapping.limit() ) {
+                if ( this.mappingStart + this.position >= this.fileSize ) {
+                    return false;
+                }
+
+                map( this.mappingStart + this.position );
+            }
+
+            final byte current = this.mapping.get( this.position );
+
+            if ( current != '\r' && current != '\n' ) {
+                break;
+            }
+
+            this.position++;
+        }
+
+        if ( this.position + this.recordLength > this.mapping.limit() ) {
+            if ( this.mappingStart + this.position + this.recordLength > this.fileSize ) {
+                throw new IOException( "The file ends with an incomplete record after record " + this.record.getRecordNumber() + "." );
+            }
+
+            map( this.mappingStart + this.position );
+        }
+
+        this.record.moveTo( this.mapping, this.position );
+        this.position += this.recordLength;
+
+        return true;
+    }
+
+    public FixedWidthRecord getRecord() {
+        return this.record;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    private void map( final long start ) throws IOException {
+        this.mappingStart = start;
+        this.mapping = this.channel.map( FileChannel.MapMode.READ_ONLY, start, Math.min( this.mappingSize, this.fileSize - start ) );
+        this.position = 0;
+    }
+
+}
@@ -0,0 +1,167 @@
+package br.com.riteris.octopus.utils;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+import static br.com.riteris.octopus.utils.FixedWidthFormatter.fill;
+import static br.com.riteris.octopus.utils.FixedWidthFormatter.fillDigits;
+
+public final class FixedWidthRecordWriter implements Closeable, Flushable {
+
+    private static final int DEFAULT_BUFFER_CAPACITY = 1 << 20;
+
+    private static final String DEFAULT_LINE_SEPARATOR = "\r\n";
+
+    private final WritableByteChannel channel;
+
+    private final FixedWidthLayout layout;
+
+    private final CharsetEncoder encoder;
+
+    private final ByteBuffer buffer;
+
+    private final char[] record;
+
+    private final CharBuffer recordView;
+
+    private final byte replacement;
+
+    private long recordsWritten;
+
+    public FixedWidthRecordWriter( final WritableByteChannel channel, final FixedWidthLayout layout, final Charset charset ) {
+        this( channel, layout, charset, DEFAULT_LINE_SEPARATOR, DEFAULT_BUFFER_CAPACITY );
+    }
+
+    public FixedWidthRecordWriter( final WritableByteChannel channel, final FixedWidthLayout layout, final Charset charset, final String lineSeparator,
+                                   final int bufferCapacity ) {
+        if ( channel == null ) {
+            throw new IllegalArgumentException( "The channel can't be null." );
+        }
+
+        if ( layout == null ) {
+            throw new IllegalArgumentException( "The layout can't be null." );
+        }
+
+        if ( charset == null ) {
+            throw new IllegalArgumentException( "The charset can't be null." );
+        }
+
+        if ( lineSeparator == null ) {
+            throw new IllegalArgumentException( "The line separator can't be null." );
+        }
+
+        this.encoder = charset.newEncoder().onMalformedInput( CodingErrorAction.REPORT ).onUnmappableCharacter( CodingErrorAction.REPORT );
+
+        if ( this.encoder.maxBytesPerChar() != 1.0f ) {
+            throw new IllegalArgumentException( "The charset " + charset.name() + " doesn't encode each character in a single byte." );
+        }
+
+        if ( bufferCapacity < layout.getRecordLength() + lineSeparator.length() ) {
+            throw new IllegalArgumentException( "The buffer capacity can't be smaller than a whole record." );
+        }
+
+        this.replacement = this.encoder.replacement()[ 0 ];
+        this.channel = channel;
+        this.layout = layout;
+        this.buffer = ByteBuffer.allocateDirect( bufferCapacity );
+        this.record = new char[ layout.getRecordLength() + lineSeparator.length() ];
+        this.recordView = CharBuffer.wrap( this.record );
+
+        lineSeparator.getChars( 0, lineSeparator.length(), this.record, layout.getRecordLength() );
+        layout.copyBlankRecord( this.record );
+    }
+
+    public FixedWidthRecordWriter set( final String columnName, final CharSequence value ) {
+        return set( this.layout.getColumnIndex( columnName ), value );
+    }
+
+    public FixedWidthRecordWriter set( final int columnIndex, final CharSequence value ) {
+        final FixedWidthColumn column = this.layout.getColumn( columnIndex );
+
+        fill( value, column.getWidth(), column.getFillCharacter(), column.getAlignment() != FixedWidthAlignment.LEFT, this.record, column.getOffset() );
+
+        return this;
+    }
+
+    public FixedWidthRecordWriter set( final String columnName, final long value ) {
+        return set( this.layout.getColumnIndex( columnName ), value );
+    }
+
+    public FixedWidthRecordWriter set( final int columnIndex, final long value ) {
+        final FixedWidthColumn column = this.layout.getColumn( columnIndex );
+
+        fillDigits( value, column.getWidth(), column.getFillCharacter(), column.getAlignment() != FixedWidthAlignment.LEFT, this.record,
+                column.getOffset() );
+
+        return this;
+    }
+
+    public void writeRecord() throws IOException {
+        if ( this.buffer.remaining() < this.record.length ) {
+            drainBuffer();
+        }
+
+        final int recordStart = this.buffer.position();
+
+        this.recordView.clear();
+        this.encoder.reset();
+
+        while ( this.recordView.hasRemaining() ) {
+            final CoderResult result = this.encoder.encode( this.recordView, this.buffer, true );
+
+            if ( result.isMalformed() || result.isUnmappable() ) {
+                for ( int i = 0; i < result.length(); i++ ) {
+                    this.buffer.put( this.replacement );
+                }
+
+                this.recordView.position( this.recordView.position() + result.length() );
+            } else if ( result.isError() || result.isOverflow() ) {
+                this.buffer.position( recordStart );
+
+                throw new IOException( "The record " + ( this.recordsWritten + 1 ) + " couldn't be encoded: " + result + "." );
+            } else {
+                break;
+            }
+        }
+
+        this.layout.copyBlankRecord( this.record );
+        this.recordsWritten++;
+    }
+
+    public long getRecordsWritten() {
+        return this.recordsWritten;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        drainBuffer();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            this.channel.close();
+        }
+    }
+
+    private void drainBuffer() throws IOException {
+        this.buffer.flip();
+
+        while ( this.buffer.hasRemaining() ) {
+            this.channel.write( this.buffer );
+        }
+
+        this.buffer.clear();
+    }
+
+}
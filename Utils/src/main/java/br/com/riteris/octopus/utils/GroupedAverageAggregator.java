@@ -0,0 +1,221 @@
+package br.com.riteris.octopus.utils;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+public final class GroupedAverageAggregator< K > {
+
+    private static final int DEFAULT_EXPECTED_GROUPS = 16;
+
+    private Object[] keys;
+
+    private int[] hashes;
+
+    private FixedPointAccumulator[] accumulators;
+
+    private int size;
+
+    private int resizeThreshold;
+
+    public GroupedAverageAggregator() {
+        this( DEFAULT_EXPECTED_GROUPS );
+    }
+
+    public GroupedAverageAggregator( final int expectedGroups ) {
+        if ( expectedGroups < 0 ) {
+            throw new IllegalArgumentException( "The expected number of groups can't be negative." );
+        }
+
+        int capacity = 4;
+
+        while ( capacity < expectedGroups * 2 ) {
+            capacity <<= 1;
+        }
+
+        allocate( capacity );
+    }
+
+    public static < T, K > Collector< T, ?, GroupedAverageAggregator< K > > collector( final Function< ? super T, ? extends K > keyExtractor,
+                                                                                         final ToDoubleFunction< ? super T > valueExtractor ) {
+        if ( keyExtractor == null || valueExtractor == null ) {
+            throw new IllegalArgumentException( "The key and value extractors can't be null." );
+        }
+
+        return Collector.of( GroupedAverageAggregator::new, ( aggregator, item ) -> aggregator.add( keyExtractor.apply( item ),
+                valueExtractor.applyAsDouble( item ) ), GroupedAverageAggregator::merge, Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.IDENTITY_FINISH );
+    }
+
+    public GroupedAverageAggregator< K > add( final K key, final double value ) {
+        final int slot = slotFor( key );
+
+        this.accumulators[ slot ].add( value );
+
+        return this;
+    }
+
+    public GroupedAverageAggregator< K > add( final K key, final long value ) {
+        final int slot = slotFor( key );
+
+        this.accumulators[ slot ].add( value );
+
+        return this;
+    }
+
+    @SuppressWarnings( "unchecked" )
+    public GroupedAverageAggregator< K > merge( final GroupedAverageAggregator< K > other ) {
+        if ( other == null ) {
+            throw new IllegalArgumentException( "The aggregator to merge can't be null." );
+        }
+
+        for ( int otherSlot = 0; otherSlot < other.keys.length; otherSlot++ ) {
+            if ( other.keys[ otherSlot ] == null ) {
+                continue;
+            }
+
+            final int slot = slotFor( ( K ) other.keys[ otherSlot ] );
+
+            this.accumulators[ slot ].add( other.accumulators[ otherSlot ] );
+        }
+
+        return this;
+    }
+
+    public int getGroupCount() {
+        return this.size;
+    }
+
+    public long getCount( final K key ) {
+        final int slot = findSlot( key );
+
+        return slot >= 0 ? this.accumulators[ slot ].getCount() : 0;
+    }
+
+    public BigDecimal getSum( final K key ) {
+        final int slot = findSlot( key );
+
+        return slot >= 0 ? this.accumulators[ slot ].getSum() : null;
+    }
+
+    public Number getAvg( final K key, final int scale ) {
+        validateScale( scale );
+
+        final int slot = findSlot( key );
+
+        return slot >= 0 ? this.accumulators[ slot ].getAvg( scale ) : null;
+    }
+
+    @SuppressWarnings( "unchecked" )
+    public Map< K, Number > getAvgs( final int scale ) {
+        validateScale( scale );
+
+        final Map< K, Number > avgs = new HashMap<>( this.size * 2 );
+
+        for ( int slot = 0; slot < this.keys.length; slot++ ) {
+            if ( this.keys[ slot ] != null ) {
+                avgs.put( ( K ) this.keys[ slot ], this.accumulators[ slot ].getAvg( scale ) );
+            }
+        }
+
+        return avgs;
+    }
+
+    private static int hash( final Object key ) {
+        final int hash = key.hashCode() * 0x9E3779B9;
+
+        return hash ^ ( hash >>> 16 );
+    }
+
+    private static void validateScale( final int scale ) {
+        if ( scale < 0 ) {
+            throw new IllegalArgumentException( "The scale can't be negative." );
+        }
+    }
+
+    private int findSlot( final K key ) {
+        if ( key == null ) {
+            throw new IllegalArgumentException( "The group key can't be null." );
+        }
+
+        final int hash = hash( key );
+        final int mask = this.keys.length - 1;
+
+        for ( int slot = hash & mask; this.keys[ slot ] != null; slot = ( slot + 1 ) & mask ) {
+            if ( this.hashes[ slot ] == hash && this.keys[ slot ].equals( key ) ) {
+                return slot;
+            }
+        }
+
+        return -1;
+    }
+
+    private int slotFor( final K key ) {
+        if ( key == null ) {
+            throw new IllegalArgumentException( "The group key can't be null." );
+        }
+
+        final int hash = hash( key );
+        final int mask = this.keys.length - 1;
+
+        int slot = hash & mask;
+
+        for ( ; this.keys[ slot ] != null; slot = ( slot + 1 ) & mask ) {
+            if ( this.hashes[ slot ] == hash && this.keys[ slot ].equals( key ) ) {
+                return slot;
+            }
+        }
+
+        if ( this.size >= this.resizeThreshold ) {
+            resize();
+
+            return slotFor( key );
+        }
+
+        this.keys[ slot ] = key;
+        this.hashes[ slot ] = hash;
+        this.accumulators[ slot ] = new FixedPointAccumulator();
+        this.size++;
+
+        return slot;
+    }
+
+    private void allocate( final int capacity ) {
+        this.keys = new Object[ capacity ];
+        this.hashes = new int[ capacity ];
+        this.accumulators = new FixedPointAccumulator[ capacity ];
+        this.size = 0;
+        this.resizeThreshold = capacity / 4 * 3;
+    }
+
+    private void resize() {
+        final Object[] oldKeys = this.keys;
+        final int[] oldHashes = this.hashes;
+        final FixedPointAccumulator[] oldAccumulators = this.accumulators;
+
+        allocate( oldKeys.length * 2 );
+
+        final int mask = this.keys.length - 1;
+
+        for ( int oldSlot = 0; oldSlot < oldKeys.length; oldSlot++ ) {
+            if ( oldKeys[ oldSlot ] == null ) {
+                continue;
+            }
+
+            int slot = oldHashes[ oldSlot ] & mask;
+
+            while ( this.keys[ slot ] != null ) {
+                slot = ( slot + 1 ) & mask;
+            }
+
+            this.keys[ slot ] = oldKeys[ oldSlot ];
+            this.hashes[ slot ] = oldHashes[ oldSlot ];
+            this.accumulators[ slot ] = oldAccumulators[ oldSlot ];
+            this.size++;
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package br.com.riteris.octopus.utils;
+
+final class LogHistogram {
+
+    static final int SUB_BUCKET_BITS = 7;
+
+    private static final int BUCKET_SHIFT = 52 - SUB_BUCKET_BITS;
+
+    private static final int MAGNITUDE_BUCKETS = 1 << ( 11 + SUB_BUCKET_BITS );
+
+    private static final int PAGE_BITS = 10;
+
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+
+    private static final int PAGES = 2 * MAGNITUDE_BUCKETS / PAGE_SIZE;
+
+    private final long[][] counts = new long[ PAGES ][];
+
+    private final double[][] sums = new double[ PAGES ][];
+
+    private long totalCount;
+
+    void add( final double value ) {
+        add( value, 1 );
+    }
+
+    void add( final double value, final long count ) {
+        if ( Double.isNaN( value ) || Double.isInfinite( value ) ) {
+            throw new IllegalArgumentException( "The value can't be NaN or infinite." );
+        }
+
+        final int index = bucketIndex( value );
+        final int page = index >>> PAGE_BITS;
+
+        if ( this.counts[ page ] == null ) {
+            this.counts[ page ] = new long[ PAGE_SIZE ];
+            this.sums[ page ] = new double[ PAGE_SIZE ];
+        }
+
+        this.counts[ page ][ index & ( PAGE_SIZE - 1 ) ] += count;
+        this.sums[ page ][ index & ( PAGE_SIZE - 1 ) ] += value * count;
+        this.totalCount += count;
+    }
+
+    void merge( final LogHistogram other ) {
+        for ( int page = 0; page < PAGES; page++ ) {
+            if ( other.counts[ page ] == null ) {
+                continue;
+            }
+
+            if ( this.counts[ page ] == null ) {
+                this.counts[ page ] = new long[ PAGE_SIZE ];
+                this.sums[ page ] = new double[ PAGE_SIZE ];
+            }
+
+            for ( int i = 0; i < PAGE_SIZE; i++ ) {
+                this.counts[ page ][ i ] += other.counts[ page ][ i ];
+                this.sums[ page ][ i ] += other.sums[ page ][ i ];
+            }
+        }
+
+        this.totalCount += other.totalCount;
+    }
+
+    void clear() {
+        for ( int page = 0; page < PAGES; page++ ) {
+            this.counts[ page ] = null;
+            this.sums[ page ] = null;
+        }
+
+        this.totalCount = 0;
+    }
+
+    long getTotalCount() {
+        return this.totalCount;
+    }
+
+    void forEachBucket( final BucketConsumer consumer ) {
+        for ( int page = PAGES - 1; page >= PAGES / 2; page-- ) {
+            if ( this.counts[ page ] != null ) {
+                for ( int i = PAGE_SIZE - 1; i >= 0; i-- ) {
+                    visit( consumer, page, i );
+                }
+            }
+        }
+
+        for ( int page = 0; page < PAGES / 2; page++ ) {
+            if ( this.counts[ page ] != null ) {
+                for ( int i = 0; i < PAGE_SIZE; i++ ) {
+                    visit( consumer, page, i );
+                }
+            }
+        }
+    }
+
+    private void visit( final BucketConsumer consumer, final int page, final int offset ) {
+        final long count = this.counts[ page ][ offset ];
+
+        if ( count == 0 ) {
+            return;
+        }
+
+        final int index = ( page << PAGE_BITS ) | offset;
+        final int magnitudeIndex = index & ( MAGNITUDE_BUCKETS - 1 );
+        final double lowerMagnitude = Double.longBitsToDouble( ( long ) magnitudeIndex << BUCKET_SHIFT );
+        final double upperMagnitude = Double.longBitsToDouble( ( long ) ( magnitudeIndex + 1 ) << BUCKET_SHIFT );
+
+        if ( index >= MAGNITUDE_BUCKETS ) {
+            consumer.accept( -upperMagnitude, -lowerMagnitude, count, this.sums[ page ][ offset ] );
+        } else {
+            consumer.accept( lowerMagnitude, upperMagnitude, count, this.sums[ page ][ offset ] );
+        }
+    }
+
+    private static int bucketIndex( final double value ) {
+        return value == 0 ? 0 : ( int ) ( Double.doubleToRawLongBits( value ) >>> BUCKET_SHIFT );
+    }
+
+    interface BucketConsumer {
+
+        void accept( double lowerBound, double upperBound, long count, double sum );
+
+    }
+
+}
@@ -0,0 +1,58 @@
+package br.com.riteris.octopus.utils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+final class LongSum {
+
+    private static final BigInteger UNSIGNED_LONG_MASK = BigInteger.ONE.shiftLeft( 64 ).subtract( BigInteger.ONE );
+
+    private long high;
+
+    private long low;
+
+    private long count;
+
+    void add( final long value ) {
+        final long total = this.low + value;
+
+        this.high += ( value >> 63 ) + ( Long.compareUnsigned( total, this.low ) < 0 ? 1 : 0 );
+        this.low = total;
+        this.count++;
+    }
+
+    void combine( final LongSum other ) {
+        final long total = this.low + other.low;
+
+        this.high += other.high + ( Long.compareUnsigned( total, this.low ) < 0 ? 1 : 0 );
+        this.low = total;
+        this.count += other.count;
+    }
+
+    void clear() {
+        this.high = 0;
+        this.low = 0;
+        this.count = 0;
+    }
+
+    long getCount() {
+        return this.count;
+    }
+
+    boolean fitsInLong() {
+        return this.high == this.low >> 63;
+    }
+
+    long getLongSum() {
+        return this.low;
+    }
+
+    BigDecimal getSum() {
+        if ( fitsInLong() ) {
+            return BigDecimal.valueOf( this.low );
+        }
+
+        return new BigDecimal( BigInteger.valueOf( this.high ).shiftLeft( 64 ).add( BigInteger.valueOf( this.low ).and( UNSIGNED_LONG_MASK ) ) );
+    }
+
+}
@@ -0,0 +1,96 @@
+package br.com.riteris.octopus.utils;
+
+import java.math.BigDecimal;
+
+final class MovingWindowAccumulator {
+
+    static final double SUPPRESSED = Double.NaN;
+
+    private final boolean peakTreatment;
+
+    private final double peakPercentual;
+
+    private final boolean substitutePeakWithAvg;
+
+    private CompensatedSum sum = new CompensatedSum();
+
+    private long totalSuppressedCount;
+
+    MovingWindowAccumulator() {
+        this.peakTreatment = false;
+        this.peakPercentual = 0;
+        this.substitutePeakWithAvg = false;
+    }
+
+    MovingWindowAccumulator( final double peakPercentual, final boolean substitutePeakWithAvg ) {
+        if ( peakPercentual < 0 ) {
+            throw new IllegalArgumentException( "The peak limit can't be negative." );
+        }
+
+        this.peakTreatment = true;
+        this.peakPercentual = peakPercentual;
+        this.substitutePeakWithAvg = substitutePeakWithAvg;
+    }
+
+    double admit( final double number ) {
+        if ( Double.isNaN( number ) || Double.isInfinite( number ) ) {
+            throw new IllegalArgumentException( "The number can't be NaN or infinite." );
+        }
+
+        if ( !this.peakTreatment || this.sum.getCount() == 0 ) {
+            return number;
+        }
+
+        final double avg = this.sum.getSum() / this.sum.getCount();
+
+        if ( !NumberTools.isPeak( number, BigDecimal.valueOf( avg ), this.peakPercentual ) ) {
+            return number;
+        }
+
+        this.totalSuppressedCount++;
+
+        return this.substitutePeakWithAvg ? avg : SUPPRESSED;
+    }
+
+    void add( final double storedNumber ) {
+        if ( !Double.isNaN( storedNumber ) ) {
+            this.sum.add( storedNumber );
+        }
+    }
+
+    void remove( final double storedNumber ) {
+        if ( !Double.isNaN( storedNumber ) ) {
+            this.sum.remove( storedNumber );
+        }
+    }
+
+    long getRetainedCount() {
+        return this.sum.getCount();
+    }
+
+    long getTotalSuppressedCount() {
+        return this.totalSuppressedCount;
+    }
+
+    double getAvg() {
+        return this.sum.getCount() > 0 ? this.sum.getSum() / this.sum.getCount() : Double.NaN;
+    }
+
+    Number getAvg( final int scale ) {
+        if ( scale < 0 ) {
+            throw new IllegalArgumentException( "The scale can't be negative." );
+        }
+
+        if ( this.sum.getCount() == 0 ) {
+            throw new IllegalStateException( "There are no numbers inside the window to calculate the average." );
+        }
+
+        return BigDecimal.valueOf( this.sum.getSum() ).divide( BigDecimal.valueOf( this.sum.getCount() ), scale, BigDecimal.ROUND_HALF_UP );
+    }
+
+    void clear() {
+        this.sum = new CompensatedSum();
+        this.totalSuppressedCount = 0;
+    }
+
+}
@@ -0,0 +1,300 @@
+package br.com.riteris.octopus.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static br.com.riteris.octopus.utils.CollectionAndMapTools.mapIsNullOrEmpty;
+
+public final class MultiReplacer {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final int ROOT = 0;
+
+    private final int[] rootTransitions;
+
+    private final int[] transitionsStart;
+
+    private final char[] transitionCharacters;
+
+    private final int[] transitionTargets;
+
+    private final int[] failure;
+
+    private final int[] depth;
+
+    private final int[] outputLength;
+
+    private final String[] outputValue;
+
+    public MultiReplacer( final Map< String, String > replacementMap ) {
+        if ( mapIsNullOrEmpty( replacementMap ) ) {
+            throw new IllegalArgumentException( "Replacement map can't be null or empty." );
+        }
+
+        final List< TreeMap< Character, Integer > > trie = new ArrayList<>();
+        final List< Integer > depths = new ArrayList<>();
+        final List< String > values = new ArrayList<>();
+
+        trie.add( new TreeMap<>() );
+        depths.add( 0 );
+        values.add( null );
+
+        for ( Map.Entry< String, String > replacement : replacementMap.entrySet() ) {
+            if ( replacement.getKey() == null || replacement.getKey().isEmpty() ) {
+                throw new IllegalArgumentException( "Replacement map can't contain null or empty keys." );
+            }
+
+            if ( replacement.getValue() == null ) {
+                throw new IllegalArgumentException( "Replacement map can't contain null values." );
+            }
+
+            int state = ROOT;
+
+            for ( char character : replacement.getKey().toCharArray() ) {
+                Integer next = trie.get( state ).get( character );
+
+                if ( next == null ) {
+                    next = trie.size();
+
+                    trie.get( state ).put( character, next );
+                    trie.add( new TreeMap<>() );
+                    depths.add( depths.get( state ) + 1 );
+                    values.add( null );
+                }
+
+                state = next;
+            }
+
+            values.set( state, replacement.getValue() );
+        }
+
+        final int states = trie.size();
+
+        this.rootTransitions = new int[ Character.MAX_VALUE + 1 ];
+        this.transitionsStart = new int[ states + 1 ];
+        this.failure = new int[ states ];
+        this.depth = new int[ states ];
+        this.outputLength = new int[ states ];
+        this.outputValue = new String[ states ];
+
+        int transitions = 0;
+
+        for ( int state = 0; state < states; state++ ) {
+            this.transitionsStart[ state ] = transitions;
+            this.depth[ state ] = depths.get( state );
+            transitions += trie.get( state ).size();
+        }
+
+        this.transitionsStart[ states ] = transitions;
+        this.transitionCharacters = new char[ transitions ];
+        this.transitionTargets = new int[ transitions ];
+
+        for ( int state = 0; state < states; state++ ) {
+            int transition = this.transitionsStart[ state ];
+
+            for ( Map.Entry< Character, Integer > edge : trie.get( state ).entrySet() ) {
+                this.transitionCharacters[ transition ] = edge.getKey();
+                this.transitionTargets[ transition++ ] = edge.getValue();
+            }
+        }
+
+        for ( Map.Entry< Character, Integer > edge : trie.get( ROOT ).entrySet() ) {
+            this.rootTransitions[ edge.getKey() ] = edge.getValue();
+        }
+
+        buildFailureLinks( values );
+    }
+
+    private void buildFailureLinks( final List< String > values ) {
+        final int[] queue = new int[ this.failure.length ];
+        int head = 0;
+        int tail = 0;
+
+        queue[ tail++ ] = ROOT;
+
+        while ( head < tail ) {
+            final int state = queue[ head++ ];
+
+            for ( int transition = this.transitionsStart[ state ]; transition < this.transitionsStart[ state + 1 ]; transition++ ) {
+                final int child = this.transitionTargets[ transition ];
+
+                this.failure[ child ] = state == ROOT ? ROOT : next( this.failure[ state ], this.transitionCharacters[ transition ] );
+
+                if ( values.get( child ) != null ) {
+                    this.outputLength[ child ] = this.depth[ child ];
+                    this.outputValue[ child ] = values.get( child );
+                } else {
+                    this.outputLength[ child ] = this.outputLength[ this.failure[ child ] ];
+                    this.outputValue[ child ] = this.outputValue[ this.failure[ child ] ];
+                }
+
+                queue[ tail++ ] = child;
+            }
+        }
+    }
+
+    private int next( int state, final char character ) {
+        while ( state != ROOT ) {
+            final int transition = Arrays.binarySearch( this.transitionCharacters, this.transitionsStart[ state ], this.transitionsStart[ state + 1 ],
+                    character );
+
+            if ( transition >= 0 ) {
+                return this.transitionTargets[ transition ];
+            }
+
+            state = this.failure[ state ];
+        }
+
+        return this.rootTransitions[ character ];
+    }
+
+    public String replace( final CharSequence text ) {
+        if ( text == null ) {
+            throw new IllegalArgumentException( "The text can't be null." );
+        }
+
+        final StringBuilder result = new StringBuilder( text.length() );
+
+        try {
+            replace( text, result );
+        } catch ( IOException e ) {
+            throw new IllegalStateException( "Error replacing text in memory: " + e.getMessage(), e );
+        }
+
+        return result.toString();
+    }
+
+    public void replace( final CharSequence text, final Appendable target ) throws IOException {
+        if ( text == null ) {
+            throw new IllegalArgumentException( "The text can't be null." );
+        }
+
+        if ( target == null ) {
+            throw new IllegalArgumentException( "The replacement target can't be null." );
+        }
+
+        final ReplaceState state = new ReplaceState( target );
+
+        for ( int i = 0, length = text.length(); i < length; i++ ) {
+            state.process( text.charAt( i ) );
+        }
+
+        state.finish();
+    }
+
+    public void replace( final Reader source, final Appendable target ) throws IOException {
+        if ( source == null ) {
+            throw new IllegalArgumentException( "The source can't be null." );
+        }
+
+        if ( target == null ) {
+            throw new IllegalArgumentException( "The replacement target can't be null." );
+        }
+
+        final ReplaceState state = new ReplaceState( target );
+        final char[] input = new char[ DEFAULT_BUFFER_SIZE ];
+
+        int read;
+
+        while ( ( read = source.read( input ) ) >= 0 ) {
+            for ( int i = 0; i < read; i++ ) {
+                state.process( input[ i ] );
+            }
+        }
+
+        state.finish();
+    }
+
+    private final class ReplaceState {
+
+        private final AppendableBuffer output;
+
+        private final StringBuilder pending = new StringBuilder();
+
+        private int scanned;
+
+        private int state = ROOT;
+
+        private int matchStart = -1;
+
+        private int matchLength;
+
+        private String matchValue;
+
+        private ReplaceState( final Appendable target ) {
+            this.output = new AppendableBuffer( target, DEFAULT_BUFFER_SIZE );
+        }
+
+        private void process( final char character ) throws IOException {
+            if ( this.state == ROOT && this.matchStart < 0 && rootTransitions[ character ] == ROOT ) {
+                this.output.append( character );
+
+                return;
+            }
+
+            this.pending.append( character );
+
+            scan();
+        }
+
+        private void scan() throws IOException {
+            while ( this.scanned < this.pending.length() ) {
+                this.state = next( this.state, this.pending.charAt( this.scanned++ ) );
+
+                final int length = outputLength[ this.state ];
+
+                if ( length > 0 ) {
+                    final int start = this.scanned - length;
+
+                    if ( this.matchStart < 0 || start < this.matchStart || ( start == this.matchStart && length > this.matchLength ) ) {
+                        this.matchStart = start;
+                        this.matchLength = length;
+                        this.matchValue = outputValue[ this.state ];
+                    }
+                }
+
+                final int stateStart = this.scanned - depth[ this.state ];
+
+                if ( this.matchStart >= 0 ) {
+                    if ( stateStart > this.matchStart ) {
+                        commitMatch();
+                    }
+                } else if ( stateStart > 0 ) {
+                    this.output.append( this.pending, 0, stateStart );
+                    this.pending.delete( 0, stateStart );
+                    this.scanned -= stateStart;
+                }
+            }
+        }
+
+        private void commitMatch() throws IOException {
+            this.output.append( this.pending, 0, this.matchStart );
+            this.output.append( this.matchValue );
+            this.pending.delete( 0, this.matchStart + this.matchLength );
+
+            this.scanned = 0;
+            this.state = ROOT;
+            this.matchStart = -1;
+        }
+
+        private void finish() throws IOException {
+            scan();
+
+            while ( this.matchStart >= 0 ) {
+                commitMatch();
+                scan();
+            }
+
+            this.output.append( this.pending );
+            this.output.flush();
+        }
+
+    }
+
+}
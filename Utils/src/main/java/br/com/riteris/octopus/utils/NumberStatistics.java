@@ -0,0 +1,169 @@
+package br.com.riteris.octopus.utils;
+
+import java.math.BigDecimal;
+
+public final class NumberStatistics {
+
+    private final FixedPointAccumulator doubleSum;
+
+    private final LongSum longSum;
+
+    private long count;
+
+    private double min = Double.POSITIVE_INFINITY;
+
+    private double max = Double.NEGATIVE_INFINITY;
+
+    private long longMin = Long.MAX_VALUE;
+
+    private long longMax = Long.MIN_VALUE;
+
+    private double mean;
+
+    private double squaredDeviations;
+
+    NumberStatistics( final boolean integral ) {
+        this.doubleSum = integral ? null : new FixedPointAccumulator();
+        this.longSum = integral ? new LongSum() : null;
+    }
+
+    void add( final double number ) {
+        this.doubleSum.add( number );
+
+        update( number );
+    }
+
+    void add( final long number ) {
+        this.longSum.add( number );
+
+        if ( number < this.longMin ) {
+            this.longMin = number;
+        }
+
+        if ( number > this.longMax ) {
+            this.longMax = number;
+        }
+
+        update( number );
+    }
+
+    void merge( final NumberStatistics other ) {
+        if ( other.count == 0 ) {
+            return;
+        }
+
+        if ( this.doubleSum != null ) {
+            this.doubleSum.add( other.doubleSum );
+        } else {
+            this.longSum.combine( other.longSum );
+        }
+
+        final long total = this.count + other.count;
+        final double delta = other.mean - this.mean;
+
+        this.mean += delta * other.count / total;
+        this.squaredDeviations += other.squaredDeviations + delta * delta * ( ( double ) this.count * other.count / total );
+        this.min = Math.min( this.min, other.min );
+        this.max = Math.max( this.max, other.max );
+        this.longMin = Math.min( this.longMin, other.longMin );
+        this.longMax = Math.max( this.longMax, other.longMax );
+        this.count = total;
+    }
+
+    private void update( final double number ) {
+        this.count++;
+
+        if ( number < this.min ) {
+            this.min = number;
+        }
+
+        if ( number > this.max ) {
+            this.max = number;
+        }
+
+        final double delta = number - this.mean;
+
+        this.mean += delta / this.count;
+        this.squaredDeviations += delta * ( number - this.mean );
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+
+    public double getMin() {
+        return this.min;
+    }
+
+    public double getMax() {
+        return this.max;
+    }
+
+    public long getLongMin() {
+        validateIntegralValues();
+
+        return this.longMin;
+    }
+
+    public long getLongMax() {
+        validateIntegralValues();
+
+        return this.longMax;
+    }
+
+    public BigDecimal getSum() {
+        if ( this.longSum != null ) {
+            return this.longSum.getSum();
+        }
+
+        return this.doubleSum.getSum();
+    }
+
+    public BigDecimal getAvg( final int scale ) {
+        if ( scale < 0 ) {
+            throw new IllegalArgumentException( "The scale can't be negative." );
+        }
+
+        if ( this.count == 0 ) {
+            throw new IllegalStateException( "There are no numbers to calculate the average." );
+        }
+
+        if ( this.doubleSum != null ) {
+            return this.doubleSum.getAvg( scale );
+        }
+
+        return getSum().divide( BigDecimal.valueOf( this.count ), scale, BigDecimal.ROUND_HALF_UP );
+    }
+
+    private void validateIntegralValues() {
+        if ( this.longSum == null ) {
+            throw new IllegalStateException( "The statistics weren't computed from long numbers." );
+        }
+
+        if ( this.count == 0 ) {
+            throw new IllegalStateException( "There are no numbers to calculate the minimum and maximum." );
+        }
+    }
+
+    public double getVariance() {
+        return this.count > 0 ? this.squaredDeviations / this.count : Double.NaN;
+    }
+
+    public double getSampleVariance() {
+        return this.count > 1 ? this.squaredDeviations / ( this.count - 1 ) : Double.NaN;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt( getVariance() );
+    }
+
+    @Override
+    public String toString() {
+        final boolean exact = this.longSum != null && this.count > 0;
+        final String min = exact ? String.valueOf( this.longMin ) : String.valueOf( this.min );
+        final String max = exact ? String.valueOf( this.longMax ) : String.valueOf( this.max );
+
+        return "NumberStatistics{count=" + this.count + ", min=" + min + ", max=" + max + ", mean=" + this.mean + ", variance=" + getVariance() + "}";
+    }
+
+}
@@ -3,6 +3,10 @@ package br.com.riteris.octopus.utils;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.DoubleStream;
 
 import static br.com.riteris.octopus.utils.CollectionAndMapTools.collectionIsNullOrEmpty;
 
@@ -25,8 +29,7 @@ public final class NumberTools {
         }
 
         final BigDecimal simpleAvg = BigDecimal.valueOf( avgWithScale( numbers, scale ).doubleValue() );
-        final BigDecimal factor = simpleAvg.multiply( BigDecimal.valueOf( peakPercentual.doubleValue() ).divide( BigDecimal.valueOf( 100 ),
-                15, BigDecimal.ROUND_HALF_UP ) );
+        final BigDecimal factor = peakFactor( simpleAvg, peakPercentual.doubleValue() );
 
         final BigDecimal minimumLimit = simpleAvg.subtract( factor );
         final BigDecimal maximumLimit = simpleAvg.add( factor );
@@ -53,17 +56,266 @@ public final class NumberTools {
             throw new IllegalArgumentException( "The scale can't be negative." );
         }
 
-        BigDecimal sum = BigDecimal.ZERO;
+        final FixedPointAccumulator sum = new FixedPointAccumulator();
 
         for ( Number number : numbers ) {
             if ( number == null ) {
                 throw new IllegalArgumentException( "The number to be calculated can't be null." );
             }
 
-            sum = sum.add( BigDecimal.valueOf( number.doubleValue() ) );
+            sum.add( number.doubleValue() );
         }
 
-        return sum.divide( BigDecimal.valueOf( numbers.size() ), scale, BigDecimal.ROUND_HALF_UP );
+        return sum.getAvg( scale );
     }
 
-}
\ No newline at end of file
+    public static Number avgWithScale( final double[] numbers, final int scale ) {
+        validateArrayAvgArguments( numbers == null || numbers.length == 0, scale );
+
+        final FixedPointAccumulator sum = new FixedPointAccumulator();
+
+        for ( double number : numbers ) {
+            sum.add( number );
+        }
+
+        return sum.getAvg( scale );
+    }
+
+    public static Number avgWithScale( final long[] numbers, final int scale ) {
+        validateArrayAvgArguments( numbers == null || numbers.length == 0, scale );
+
+        final LongSum sum = new LongSum();
+
+        for ( long number : numbers ) {
+            sum.add( number );
+        }
+
+        return sum.getSum().divide( BigDecimal.valueOf( sum.getCount() ), scale, BigDecimal.ROUND_HALF_UP );
+    }
+
+    public static Number avgWithScale( final int[] numbers, final int scale ) {
+        validateArrayAvgArguments( numbers == null || numbers.length == 0, scale );
+
+        long sum = 0;
+
+        for ( int number : numbers ) {
+            sum += number;
+        }
+
+        return BigDecimal.valueOf( sum ).divide( BigDecimal.valueOf( numbers.length ), scale, BigDecimal.ROUND_HALF_UP );
+    }
+
+    public static Number avgWithScale( final DoubleStream numbers, final int scale ) {
+        if ( numbers == null ) {
+            throw new IllegalArgumentException( "The numbers stream can't be null." );
+        }
+
+        if ( scale < 0 ) {
+            throw new IllegalArgumentException( "The scale can't be negative." );
+        }
+
+        final FixedPointAccumulator sum = numbers.collect( FixedPointAccumulator::new, FixedPointAccumulator::add, FixedPointAccumulator::add );
+
+        if ( sum.getCount() == 0 ) {
+            throw new IllegalArgumentException( "The numbers stream can't be empty." );
+        }
+
+        return sum.getAvg( scale );
+    }
+
+    public static Number avgWithScaleAndPeakTreatment( final double[] numbers, final int scale, final double peakPercentual,
+                                                       final boolean substitutePeakWithAvg ) {
+        validateArrayPeakTreatmentArguments( numbers == null || numbers.length == 0, scale, peakPercentual );
+
+        final BigDecimal simpleAvg = BigDecimal.valueOf( avgWithScale( numbers, scale ).doubleValue() );
+        final BigDecimal factor = peakFactor( simpleAvg, peakPercentual );
+        final double minimumLimit = simpleAvg.subtract( factor ).doubleValue();
+        final double maximumLimit = simpleAvg.add( factor ).doubleValue();
+        final double substitute = simpleAvg.doubleValue();
+        final FixedPointAccumulator sum = new FixedPointAccumulator();
+
+        for ( double number : numbers ) {
+            if ( number < minimumLimit || number > maximumLimit ) {
+                if ( substitutePeakWithAvg ) sum.add( substitute );
+            } else {
+                sum.add( number );
+            }
+        }
+
+        if ( sum.getCount() == 0 ) {
+            throw new IllegalArgumentException( "No number remained to be calculated after the peak treatment." );
+        }
+
+        return sum.getAvg( scale );
+    }
+
+    public static Number avgWithScaleAndPeakTreatment( final long[] numbers, final int scale, final double peakPercentual,
+                                                       final boolean substitutePeakWithAvg ) {
+        validateArrayPeakTreatmentArguments( numbers == null || numbers.length == 0, scale, peakPercentual );
+
+        final BigDecimal simpleAvg = BigDecimal.valueOf( avgWithScale( numbers, scale ).doubleValue() );
+        final BigDecimal factor = peakFactor( simpleAvg, peakPercentual );
+        final double minimumLimit = simpleAvg.subtract( factor ).doubleValue();
+        final double maximumLimit = simpleAvg.add( factor ).doubleValue();
+        final LongSum sum = new LongSum();
+
+        long substitutions = 0;
+
+        for ( long number : numbers ) {
+            if ( number < minimumLimit || number > maximumLimit ) {
+                if ( substitutePeakWithAvg ) substitutions++;
+            } else {
+                sum.add( number );
+            }
+        }
+
+        return divideWithSubstitutions( sum, simpleAvg, substitutions, scale );
+    }
+
+    public static Number avgWithScaleAndPeakTreatment( final int[] numbers, final int scale, final double peakPercentual,
+                                                       final boolean substitutePeakWithAvg ) {
+        validateArrayPeakTreatmentArguments( numbers == null || numbers.length == 0, scale, peakPercentual );
+
+        final BigDecimal simpleAvg = BigDecimal.valueOf( avgWithScale( numbers, scale ).doubleValue() );
+        final BigDecimal factor = peakFactor( simpleAvg, peakPercentual );
+        final double minimumLimit = simpleAvg.subtract( factor ).doubleValue();
+        final double maximumLimit = simpleAvg.add( factor ).doubleValue();
+        final LongSum sum = new LongSum();
+
+        long substitutions = 0;
+
+        for ( int number : numbers ) {
+            if ( number < minimumLimit || number > maximumLimit ) {
+                if ( substitutePeakWithAvg ) substitutions++;
+            } else {
+                sum.add( number );
+            }
+        }
+
+        return divideWithSubstitutions( sum, simpleAvg, substitutions, scale );
+    }
+
+    public static Number avgWithScaleAndPeakTreatment( final DoubleStream numbers, final int scale, final double peakPercentual,
+                                                       final boolean substitutePeakWithAvg ) {
+        if ( numbers == null ) {
+            throw new IllegalArgumentException( "The numbers stream can't be null." );
+        }
+
+        return avgWithScaleAndPeakTreatment( numbers.toArray(), scale, peakPercentual, substitutePeakWithAvg );
+    }
+
+    public static Number avgWithScaleAndPercentileTreatment( final Collection< Number > numbers, final int scale, final double lowerPercentile,
+                                                             final double upperPercentile, final boolean substitutePeakWithAvg ) {
+        if ( collectionIsNullOrEmpty( numbers ) ) {
+            throw new IllegalArgumentException( "The numbers collection can't be null or empty." );
+        }
+
+        final QuantileSketch sketch = new QuantileSketch();
+
+        for ( Number number : numbers ) {
+            if ( number == null ) {
+                throw new IllegalArgumentException( "The number to be calculated can't be null." );
+            }
+
+            sketch.add( number.doubleValue() );
+        }
+
+        return percentileTreatedAvg( sketch, scale, lowerPercentile, upperPercentile, substitutePeakWithAvg ? avgWithScale( numbers, scale ) : null );
+    }
+
+    public static Number avgWithScaleAndPercentileTreatment( final double[] numbers, final int scale, final double lowerPercentile,
+                                                             final double upperPercentile, final boolean substitutePeakWithAvg ) {
+        validateArrayAvgArguments( numbers == null || numbers.length == 0, scale );
+
+        return percentileTreatedAvg( new QuantileSketch().add( numbers ), scale, lowerPercentile, upperPercentile,
+                substitutePeakWithAvg ? avgWithScale( numbers, scale ) : null );
+    }
+
+    private static Number percentileTreatedAvg( final QuantileSketch sketch, final int scale, final double lowerPercentile, final double upperPercentile,
+                                                final Number simpleAvg ) {
+        if ( scale < 0 ) {
+            throw new IllegalArgumentException( "The scale can't be negative." );
+        }
+
+        if ( lowerPercentile < 0 || upperPercentile > 100 || lowerPercentile >= upperPercentile ) {
+            throw new IllegalArgumentException( "The percentiles must satisfy 0 <= lower < upper <= 100." );
+        }
+
+        final double lowerQuantile = lowerPercentile / 100;
+        final double upperQuantile = upperPercentile / 100;
+        final long keptCount = sketch.getTrimmedCount( lowerQuantile, upperQuantile );
+
+        BigDecimal total = BigDecimal.valueOf( sketch.getTrimmedSum( lowerQuantile, upperQuantile ) );
+        long count = keptCount;
+
+        if ( simpleAvg != null ) {
+            final long substitutions = sketch.getCount() - keptCount;
+
+            total = total.add( BigDecimal.valueOf( simpleAvg.doubleValue() ).multiply( BigDecimal.valueOf( substitutions ) ) );
+            count += substitutions;
+        }
+
+        if ( count == 0 ) {
+            throw new IllegalArgumentException( "No number remained to be calculated after the percentile treatment." );
+        }
+
+        return total.divide( BigDecimal.valueOf( count ), scale, BigDecimal.ROUND_HALF_UP );
+    }
+
+    public static < T, K > Map< K, Number > avgWithScaleGroupingBy( final Collection< T > items, final Function< ? super T, ? extends K > keyExtractor,
+                                                                    final ToDoubleFunction< ? super T > valueExtractor, final int scale,
+                                                                    final boolean parallel ) {
+        if ( collectionIsNullOrEmpty( items ) ) {
+            throw new IllegalArgumentException( "The items collection can't be null or empty." );
+        }
+
+        if ( scale < 0 ) {
+            throw new IllegalArgumentException( "The scale can't be negative." );
+        }
+
+        final GroupedAverageAggregator< K > aggregator = ( parallel ? items.parallelStream() : items.stream() ).collect(
+                GroupedAverageAggregator.collector( keyExtractor, valueExtractor ) );
+
+        return aggregator.getAvgs( scale );
+    }
+
+    static boolean isPeak( final double number, final BigDecimal simpleAvg, final double peakPercentual ) {
+        final BigDecimal factor = peakFactor( simpleAvg, peakPercentual );
+
+        return number < simpleAvg.subtract( factor ).doubleValue() || number > simpleAvg.add( factor ).doubleValue();
+    }
+
+    static BigDecimal peakFactor( final BigDecimal simpleAvg, final double peakPercentual ) {
+        return simpleAvg.multiply( BigDecimal.valueOf( peakPercentual ).divide( BigDecimal.valueOf( 100 ), 15, BigDecimal.ROUND_HALF_UP ) );
+    }
+
+    private static void validateArrayAvgArguments( final boolean arrayIsNullOrEmpty, final int scale ) {
+        if ( arrayIsNullOrEmpty ) {
+            throw new IllegalArgumentException( "The numbers array can't be null or empty." );
+        }
+
+        if ( scale < 0 ) {
+            throw new IllegalArgumentException( "The scale can't be negative." );
+        }
+    }
+
+    private static void validateArrayPeakTreatmentArguments( final boolean arrayIsNullOrEmpty, final int scale, final double peakPercentual ) {
+        validateArrayAvgArguments( arrayIsNullOrEmpty, scale );
+
+        if ( peakPercentual < 0 ) {
+            throw new IllegalArgumentException( "The peak limit can't be negative." );
+        }
+    }
+
+    private static BigDecimal divideWithSubstitutions( final LongSum sum, final BigDecimal simpleAvg, final long substitutions, final int scale ) {
+        final long count = sum.getCount() + substitutions;
+
+        if ( count == 0 ) {
+            throw new IllegalArgumentException( "No number remained to be calculated after the peak treatment." );
+        }
+
+        return sum.getSum().add( simpleAvg.multiply( BigDecimal.valueOf( substitutions ) ) ).divide( BigDecimal.valueOf( count ), scale,
+                BigDecimal.ROUND_HALF_UP );
+    }
+
+}
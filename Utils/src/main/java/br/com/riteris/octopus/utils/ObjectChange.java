@@ -0,0 +1,58 @@
+package br.com.riteris.octopus.utils;
+
+import java.util.Collections;
+import java.util.List;
+
+public final class ObjectChange {
+
+    private final ChangeType type;
+
+    private final List< Object > key;
+
+    private final Object oldObject;
+
+    private final Object newObject;
+
+    private final List< PropertyChange > propertyChanges;
+
+    ObjectChange( final ChangeType type, final List< Object > key, final Object oldObject, final Object newObject,
+                  final List< PropertyChange > propertyChanges ) {
+        this.type = type;
+        this.key = Collections.unmodifiableList( key );
+        this.oldObject = oldObject;
+        this.newObject = newObject;
+        this.propertyChanges = Collections.unmodifiableList( propertyChanges );
+    }
+
+    public ChangeType getType() {
+        return this.type;
+    }
+
+    public List< Object > getKey() {
+        return this.key;
+    }
+
+    public Object getOldObject() {
+        return this.oldObject;
+    }
+
+    public Object getNewObject() {
+        return this.newObject;
+    }
+
+    public List< PropertyChange > getPropertyChanges() {
+        return this.propertyChanges;
+    }
+
+    @Override
+    public String toString() {
+        return this.type + " " + this.key + ( this.propertyChanges.isEmpty() ? "" : " " + this.propertyChanges );
+    }
+
+    public enum ChangeType {
+
+        ADDED, REMOVED, MODIFIED
+
+    }
+
+}
@@ -0,0 +1,330 @@
+package br.com.riteris.octopus.utils;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static br.com.riteris.octopus.utils.StringTools.textIsBlank;
+
+public final class ObjectDescriber {
+
+    public static final ObjectDescriber UNBOUNDED = new ObjectDescriber( Integer.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE, false );
+
+    public static final ObjectDescriber DEFAULT = new ObjectDescriber( 4, 32, 8192 );
+
+    private static final String ELLIPSIS = "...";
+
+    private static final String NEW_LINE = "\r\n";
+
+    private static final ClassValue< Strategy > STRATEGIES = new ClassValue< Strategy >() {
+
+        @Override
+        protected Strategy computeValue( final Class< ? > type ) {
+            return new Strategy( type );
+        }
+
+    };
+
+    private final int maxDepth;
+
+    private final int maxElements;
+
+    private final long maxCharacters;
+
+    private final boolean expandingArrays;
+
+    public ObjectDescriber( final int maxDepth, final int maxElements, final long maxCharacters ) {
+        this( maxDepth, maxElements, maxCharacters, true );
+    }
+
+    public ObjectDescriber( final int maxDepth, final int maxElements, final long maxCharacters, final boolean expandingArrays ) {
+        if ( maxDepth < 0 ) {
+            throw new IllegalArgumentException( "The max depth can't be negative." );
+        }
+
+        if ( maxElements < 1 ) {
+            throw new IllegalArgumentException( "The max elements must be at least 1." );
+        }
+
+        if ( maxCharacters < ELLIPSIS.length() ) {
+            throw new IllegalArgumentException( "The max characters must be at least " + ELLIPSIS.length() + "." );
+        }
+
+        this.maxDepth = maxDepth;
+        this.maxElements = maxElements;
+        this.maxCharacters = maxCharacters;
+        this.expandingArrays = expandingArrays;
+    }
+
+    public int getMaxDepth() {
+        return this.maxDepth;
+    }
+
+    public int getMaxElements() {
+        return this.maxElements;
+    }
+
+    public long getMaxCharacters() {
+        return this.maxCharacters;
+    }
+
+    public boolean isExpandingArrays() {
+        return this.expandingArrays;
+    }
+
+    public String describe( final Object object ) {
+        final StringBuilder description = new StringBuilder();
+
+        try {
+            describe( object, description );
+        } catch ( IOException e ) {
+            throw new IllegalStateException( "Error describing object in memory: " + e.getMessage(), e );
+        }
+
+        return description.toString();
+    }
+
+    public void describe( final Object object, final Appendable target ) throws IOException {
+        if ( target == null ) {
+            throw new IllegalArgumentException( "The description target can't be null." );
+        }
+
+        new Description( target ).object( object, 0 );
+    }
+
+    public String describeAll( final Collection< ? > objects ) {
+        final StringBuilder description = new StringBuilder();
+
+        try {
+            describeAll( objects, description );
+        } catch ( IOException e ) {
+            throw new IllegalStateException( "Error describing objects in memory: " + e.getMessage(), e );
+        }
+
+        return description.toString();
+    }
+
+    public void describeAll( final Collection< ? > objects, final Appendable target ) throws IOException {
+        if ( target == null ) {
+            throw new IllegalArgumentException( "The description target can't be null." );
+        }
+
+        final Description description = new Description( target );
+
+        if ( objects == null || objects.isEmpty() ) {
+            description.text( "    * -EMPTY-" );
+
+            return;
+        }
+
+        final Iterator< ? > iterator = objects.iterator();
+        int described = 0;
+
+        while ( iterator.hasNext() && !description.exhausted ) {
+            final Object object = iterator.next();
+
+            if ( described++ == this.maxElements ) {
+                description.text( "    * " ).text( ELLIPSIS ).text( " (" + ( objects.size() - this.maxElements ) + " more)." );
+
+                return;
+            }
+
+            description.text( "    * " );
+            description.object( object, 0 );
+            description.text( iterator.hasNext() ? ", " + NEW_LINE : "." );
+        }
+    }
+
+    private enum Kind {
+
+        VALUE, CHARACTERS, COLLECTION, MAP, ARRAY
+
+    }
+
+    private static final class Strategy {
+
+        private final Kind kind;
+
+        private final String name;
+
+        private Strategy( final Class< ? > type ) {
+            if ( Collection.class.isAssignableFrom( type ) ) {
+                this.kind = Kind.COLLECTION;
+            } else if ( Map.class.isAssignableFrom( type ) ) {
+                this.kind = Kind.MAP;
+            } else if ( type.isArray() ) {
+                this.kind = Kind.ARRAY;
+            } else if ( CharSequence.class.isAssignableFrom( type ) ) {
+                this.kind = Kind.CHARACTERS;
+            } else {
+                this.kind = Kind.VALUE;
+            }
+
+            this.name = type.getSimpleName();
+        }
+
+    }
+
+    private final class Description {
+
+        private final Appendable target;
+
+        private final IdentityHashMap< Object, Boolean > path = new IdentityHashMap<>();
+
+        private long remaining = maxCharacters;
+
+        private boolean exhausted;
+
+        private Description( final Appendable target ) {
+            this.target = target;
+        }
+
+        private Description text( final CharSequence text ) throws IOException {
+            return text( text, 0, text.length() );
+        }
+
+        private Description text( final CharSequence text, final int start, final int end ) throws IOException {
+            if ( this.exhausted ) {
+                return this;
+            }
+
+            final int length = end - start;
+
+            if ( length <= this.remaining - ELLIPSIS.length() ) {
+                this.target.append( text, start, end );
+                this.remaining -= length;
+            } else {
+                final int fitting = ( int ) Math.max( 0, Math.min( length, this.remaining - ELLIPSIS.length() ) );
+
+                this.target.append( text, start, start + fitting ).append( ELLIPSIS );
+                this.remaining = 0;
+                this.exhausted = true;
+            }
+
+            return this;
+        }
+
+        private void object( final Object object, final int depth ) throws IOException {
+            if ( object == null ) {
+                text( "N/A: -NULL-" );
+
+                return;
+            }
+
+            final Strategy strategy = STRATEGIES.get( object.getClass() );
+
+            text( strategy.name ).text( ": " );
+
+            if ( this.exhausted ) {
+                return;
+            }
+
+            switch ( strategy.kind ) {
+                case CHARACTERS:
+                    characters( ( CharSequence ) object );
+                    break;
+                case ARRAY:
+                    if ( expandingArrays ) {
+                        container( object, strategy.kind, depth );
+                    } else {
+                        characters( String.valueOf( object ) );
+                    }
+                    break;
+                case COLLECTION:
+                case MAP:
+                    container( object, strategy.kind, depth );
+                    break;
+                default:
+                    characters( String.valueOf( object ) );
+                    break;
+            }
+        }
+
+        private void characters( final CharSequence value ) throws IOException {
+            if ( value.length() == 0 ) {
+                text( "-EMPTY-" );
+            } else if ( value.length() <= this.remaining && textIsBlank( value ) ) {
+                text( "-BLANK-" );
+            } else {
+                text( value, 0, ( int ) Math.min( value.length(), this.remaining ) );
+            }
+        }
+
+        private void container( final Object container, final Kind kind, final int depth ) throws IOException {
+            final int size = kind == Kind.COLLECTION ? ( ( Collection< ? > ) container ).size() : kind == Kind.MAP ? ( ( Map< ?, ? > ) container ).size()
+                    : Array.getLength( container );
+
+            text( "[ " );
+
+            if ( size == 0 ) {
+                text( "-EMPTY-" );
+            } else if ( depth >= maxDepth ) {
+                text( ELLIPSIS + " (" + size + " elements)" );
+            } else if ( this.path.put( container, Boolean.TRUE ) != null ) {
+                text( "-CYCLE-" );
+            } else {
+                try {
+                    if ( kind == Kind.MAP ) {
+                        entries( ( Map< ?, ? > ) container, size, depth );
+                    } else {
+                        elements( kind == Kind.COLLECTION ? ( ( Collection< ? > ) container ).iterator() : null, container, size, depth );
+                    }
+                } finally {
+                    this.path.remove( container );
+                }
+            }
+
+            text( " ]" );
+        }
+
+        private void elements( final Iterator< ? > iterator, final Object array, final int size, final int depth ) throws IOException {
+            for ( int element = 0; element < size && !this.exhausted; element++ ) {
+                if ( element > 0 ) {
+                    text( ", " );
+                }
+
+                if ( element == maxElements ) {
+                    text( ELLIPSIS + " (" + ( size - maxElements ) + " more)" );
+
+                    return;
+                }
+
+                if ( iterator != null && !iterator.hasNext() ) {
+                    return;
+                }
+
+                object( iterator != null ? iterator.next() : Array.get( array, element ), depth + 1 );
+            }
+        }
+
+        private void entries( final Map< ?, ? > map, final int size, final int depth ) throws IOException {
+            int entry = 0;
+
+            for ( Map.Entry< ?, ? > mapEntry : map.entrySet() ) {
+                if ( this.exhausted ) {
+                    return;
+                }
+
+                if ( entry > 0 ) {
+                    text( ", " );
+                }
+
+                if ( entry++ == maxElements ) {
+                    text( ELLIPSIS + " (" + ( size - maxElements ) + " more)" );
+
+                    return;
+                }
+
+                text( "Key: " );
+                object( mapEntry.getKey(), depth + 1 );
+                text( " - Value: " );
+                object( mapEntry.getValue(), depth + 1 );
+            }
+        }
+
+    }
+
+}
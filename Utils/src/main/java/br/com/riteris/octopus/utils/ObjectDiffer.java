@@ -0,0 +1,166 @@
+package br.com.riteris.octopus.utils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import static br.com.riteris.octopus.utils.CollectionAndMapTools.collectionIsNullOrEmpty;
+
+public final class ObjectDiffer {
+
+    private static final ClassValue< PropertyPath[] > FIELD_PATHS = new ClassValue< PropertyPath[] >() {
+
+        @Override
+        protected PropertyPath[] computeValue( final Class< ? > type ) {
+            final List< PropertyPath > paths = new ArrayList<>();
+            final List< String > names = new ArrayList<>();
+
+            for ( Class< ? > current = type; current != null && current != Object.class; current = current.getSuperclass() ) {
+                for ( Field field : current.getDeclaredFields() ) {
+                    if ( !Modifier.isStatic( field.getModifiers() ) && !field.isSynthetic() && !names.contains( field.getName() ) ) {
+                        names.add( field.getName() );
+                        paths.add( PropertyPath.of( field.getName() ) );
+                    }
+                }
+            }
+
+            return paths.toArray( new PropertyPath[ paths.size() ] );
+        }
+
+    };
+
+    private final PropertyPath[] paths;
+
+    public ObjectDiffer() {
+        this.paths = null;
+    }
+
+    public ObjectDiffer( final Collection< String > propertyPaths ) {
+        if ( collectionIsNullOrEmpty( propertyPaths ) ) {
+            throw new IllegalArgumentException( "The property paths collection can't be null or empty." );
+        }
+
+        this.paths = new PropertyPath[ propertyPaths.size() ];
+
+        int path = 0;
+
+        for ( String propertyPath : propertyPaths ) {
+            this.paths[ path++ ] = PropertyPath.of( propertyPath );
+        }
+    }
+
+    public List< PropertyChange > diff( final Object oldObject, final Object newObject ) {
+        if ( oldObject == null || newObject == null ) {
+            throw new IllegalArgumentException( "The objects to compare can't be null." );
+        }
+
+        final PropertyPath[] comparedPaths;
+
+        if ( this.paths != null ) {
+            comparedPaths = this.paths;
+        } else {
+            comparedPaths = FIELD_PATHS.get( sharedClass( oldObject.getClass(), newObject.getClass() ) );
+        }
+
+        List< PropertyChange > changes = null;
+
+        for ( PropertyPath path : comparedPaths ) {
+            final Object oldValue = path.read( oldObject );
+            final Object newValue = path.read( newObject );
+
+            if ( !Objects.deepEquals( oldValue, newValue ) ) {
+                if ( changes == null ) {
+                    changes = new ArrayList<>();
+                }
+
+                changes.add( new PropertyChange( path.getPath(), oldValue, newValue ) );
+            }
+        }
+
+        return changes != null ? changes : Collections.emptyList();
+    }
+
+    public List< ObjectChange > diff( final Collection< ? > oldItems, final Collection< ? > newItems, final Collection< String > keyPaths,
+                                      final boolean parallel ) {
+        final PropertyKeyedCollections keyedCollections = new PropertyKeyedCollections( PropertyEquivalence.shared( keyPaths ), parallel );
+        final Object[] oldValues = PropertyKeyedCollections.toArray( oldItems );
+        final Object[] newValues = PropertyKeyedCollections.toArray( newItems );
+
+        rejectDuplicateKeys( keyedCollections, oldValues, "old" );
+        rejectDuplicateKeys( keyedCollections, newValues, "new" );
+        final int[] matches = keyedCollections.match( newValues, oldValues );
+        final ObjectChange[] changes = new ObjectChange[ newValues.length ];
+        final boolean[] matchedOld = new boolean[ oldValues.length ];
+
+        for ( int match : matches ) {
+            if ( match != PropertyKeyedCollections.NO_ITEM ) {
+                matchedOld[ match ] = true;
+            }
+        }
+
+        final IntStream items = IntStream.range( 0, newValues.length );
+
+        ( parallel ? items.parallel() : items ).forEach( item -> {
+            final Object newValue = newValues[ item ];
+
+            if ( matches[ item ] == PropertyKeyedCollections.NO_ITEM ) {
+                changes[ item ] = new ObjectChange( ObjectChange.ChangeType.ADDED, keyedCollections.keyOf( newValue ), null, newValue,
+                        Collections.emptyList() );
+            } else {
+                final Object oldValue = oldValues[ matches[ item ] ];
+                final List< PropertyChange > propertyChanges = diff( oldValue, newValue );
+
+                if ( !propertyChanges.isEmpty() ) {
+                    changes[ item ] = new ObjectChange( ObjectChange.ChangeType.MODIFIED, keyedCollections.keyOf( newValue ), oldValue, newValue,
+                            propertyChanges );
+                }
+            }
+        } );
+
+        final List< ObjectChange > result = new ArrayList<>();
+
+        for ( ObjectChange change : changes ) {
+            if ( change != null ) {
+                result.add( change );
+            }
+        }
+
+        for ( int item = 0; item < oldValues.length; item++ ) {
+            if ( !matchedOld[ item ] ) {
+                result.add( new ObjectChange( ObjectChange.ChangeType.REMOVED, keyedCollections.keyOf( oldValues[ item ] ), oldValues[ item ], null,
+                        Collections.emptyList() ) );
+            }
+        }
+
+        return result;
+    }
+
+    private static Class< ? > sharedClass( final Class< ? > oldClass, final Class< ? > newClass ) {
+        Class< ? > shared = oldClass;
+
+        while ( !shared.isAssignableFrom( newClass ) ) {
+            shared = shared.getSuperclass();
+        }
+
+        if ( shared == Object.class && oldClass != newClass ) {
+            throw new IllegalArgumentException( "The objects to compare by all fields must share a superclass other than Object." );
+        }
+
+        return shared;
+    }
+
+    private static void rejectDuplicateKeys( final PropertyKeyedCollections keyedCollections, final Object[] values, final String collectionName ) {
+        final int duplicate = keyedCollections.firstDuplicate( values );
+
+        if ( duplicate != PropertyKeyedCollections.NO_ITEM ) {
+            throw new IllegalArgumentException( "The " + collectionName + " items collection contains more than one item with the key " +
+                    keyedCollections.keyOf( values[ duplicate ] ) + "." );
+        }
+    }
+
+}
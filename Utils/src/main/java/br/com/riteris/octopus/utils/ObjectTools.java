@@ -1,12 +1,11 @@
 package br.com.riteris.octopus.utils;
 
-import java.lang.reflect.Field;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 
 import static br.com.riteris.octopus.utils.CollectionAndMapTools.collectionIsNullOrEmpty;
-import static br.com.riteris.octopus.utils.StringTools.stringIsBlank;
 
 public final class ObjectTools {
 
@@ -14,133 +13,91 @@ public final class ObjectTools {
     }
 
     public static boolean areEqualsUsingProperty( final Object objA, final Object objB, final Collection< String > propertyNames ) {
-        if ( collectionIsNullOrEmpty( propertyNames ) ) {
-            throw new IllegalArgumentException( "The property names collection can't be null or empty." );
-        }
+        return PropertyEquivalence.shared( propertyNames ).areEquivalent( objA, objB );
+    }
 
-        if ( ( objA != null && objB != null ) ) {
-            try {
-                for ( String propertyName : propertyNames ) {
-                    final Field fieldObjA = objA.getClass().getDeclaredField( propertyName );
-                    final Field fieldObjB = objB.getClass().getDeclaredField( propertyName );
-
-                    if ( fieldObjA != null && fieldObjB != null ) {
-                        fieldObjA.setAccessible( true );
-                        fieldObjB.setAccessible( true );
-
-                        final Object fieldObjAValue = fieldObjA.get( objA );
-                        final Object fieldObjBValue = fieldObjB.get( objB );
-
-                        if ( !fieldObjAValue.equals( fieldObjBValue ) ) {
-                            return false;
-                        }
-                    } else {
-                        return false;
-                    }
-                }
-
-                return true;
-            } catch ( Exception e ) {
-                throw new RuntimeException( "Error comparing objects by fields: " + e.getMessage() );
-            }
-        } else {
-            return false;
-        }
+    public static Object getPropertyValue( final Object object, final String propertyPath ) {
+        return PropertyPath.of( propertyPath ).read( object );
     }
 
-    public static String getObjectDescriptionResume( final Object object ) {
-        String className = "N/A";
-        String value = "-NULL-";
-
-        if ( object != null ) {
-            className = object.getClass().getSimpleName();
-
-            if ( !( object instanceof Collection ) && !( object instanceof Map ) ) {
-                value = object.toString();
-
-                if ( value.isEmpty() ) {
-                    value = "-EMPTY-";
-                } else if ( stringIsBlank( value ) ) {
-                    value = "-BLANK-";
-                }
-            } else {
-                final StringBuilder multipleValues = new StringBuilder();
-                multipleValues.append( "[ " );
-
-                if ( ( object instanceof Collection ) && ( !collectionIsNullOrEmpty( ( Collection< Object > ) object ) ) ) {
-                    describeCollection( ( Collection< Object > ) object, multipleValues );
-                } else if ( ( object instanceof Map ) && ( !CollectionAndMapTools.mapIsNullOrEmpty( ( Map< Object, Object > ) object ) ) ) {
-                    describeMap( ( Map< Object, Object > ) object, multipleValues );
-                } else {
-                    multipleValues.append( "-EMPTY-" );
-                }
-
-                multipleValues.append( " ]" );
-
-                value = multipleValues.toString();
-            }
+    public static < T > void sortBy( final List< T > items, final Collection< String > propertyPaths ) {
+        if ( items == null ) {
+            throw new IllegalArgumentException( "The items list can't be null." );
         }
 
-        return className + ": " + value;
-    }
-
-    private static void describeCollection( final Collection< Object > collection, final StringBuilder resultToAppend ) {
-        final Iterator< Object > collectionIterator = collection.iterator();
+        if ( collectionIsNullOrEmpty( propertyPaths ) ) {
+            throw new IllegalArgumentException( "The property paths collection can't be null or empty." );
+        }
 
-        while ( collectionIterator.hasNext() ) {
-            final Object collectionItem = collectionIterator.next();
+        Comparator< T > comparator = null;
 
-            resultToAppend.append( getObjectDescriptionResume( collectionItem ) );
+        for ( String propertyPath : propertyPaths ) {
+            final Comparator< T > pathComparator = PropertyPath.of( propertyPath ).comparator();
 
-            if ( collectionIterator.hasNext() ) {
-                resultToAppend.append( ", " );
-            }
+            comparator = comparator == null ? pathComparator : comparator.thenComparing( pathComparator );
         }
+
+        items.sort( comparator );
+    }
+
+    public static < T > List< T > distinctBy( final Collection< T > items, final Collection< String > propertyNames ) {
+        return distinctBy( items, propertyNames, false );
     }
 
-    private static void describeMap( final Map< Object, Object > map, final StringBuilder resultToAppend ) {
-        final Iterator< Object > mapKeyIterator = map.keySet().iterator();
+    public static < T > List< T > distinctBy( final Collection< T > items, final Collection< String > propertyNames, final boolean parallel ) {
+        return keyedCollections( propertyNames, parallel ).distinct( items );
+    }
 
-        while ( mapKeyIterator.hasNext() ) {
-            final Object mapKeyItem = mapKeyIterator.next();
+    public static < T > Map< List< Object >, List< T > > groupBy( final Collection< T > items, final Collection< String > propertyNames ) {
+        return groupBy( items, propertyNames, false );
+    }
 
-            resultToAppend.append( "Key: " );
+    public static < T > Map< List< Object >, List< T > > groupBy( final Collection< T > items, final Collection< String > propertyNames,
+                                                                   final boolean parallel ) {
+        return keyedCollections( propertyNames, parallel ).group( items );
+    }
 
-            resultToAppend.append( getObjectDescriptionResume( mapKeyItem ) );
+    public static < T > List< T > intersectBy( final Collection< T > items, final Collection< ? > others, final Collection< String > propertyNames ) {
+        return intersectBy( items, others, propertyNames, false );
+    }
 
-            resultToAppend.append( " - Value: " );
+    public static < T > List< T > intersectBy( final Collection< T > items, final Collection< ? > others, final Collection< String > propertyNames,
+                                               final boolean parallel ) {
+        return keyedCollections( propertyNames, parallel ).matching( items, others, true );
+    }
 
-            resultToAppend.append( getObjectDescriptionResume( map.get( mapKeyItem ) ) );
+    public static < T > List< T > diffBy( final Collection< T > items, final Collection< ? > others, final Collection< String > propertyNames ) {
+        return diffBy( items, others, propertyNames, false );
+    }
 
-            if ( mapKeyIterator.hasNext() ) {
-                resultToAppend.append( ", " );
-            }
-        }
+    public static < T > List< T > diffBy( final Collection< T > items, final Collection< ? > others, final Collection< String > propertyNames,
+                                          final boolean parallel ) {
+        return keyedCollections( propertyNames, parallel ).matching( items, others, false );
     }
 
-    public static String describeObjectsCollection( Collection< Object > objects ) {
-        final StringBuilder result = new StringBuilder();
+    public static List< PropertyChange > diff( final Object oldObject, final Object newObject ) {
+        return new ObjectDiffer().diff( oldObject, newObject );
+    }
 
-        if ( !collectionIsNullOrEmpty( objects ) ) {
-            Iterator< Object > iterator = objects.iterator();
+    public static List< PropertyChange > diff( final Object oldObject, final Object newObject, final Collection< String > propertyPaths ) {
+        return new ObjectDiffer( propertyPaths ).diff( oldObject, newObject );
+    }
 
-            while ( iterator.hasNext() ) {
-                Object object = iterator.next();
+    public static List< ObjectChange > diffCollections( final Collection< ? > oldItems, final Collection< ? > newItems,
+                                                        final Collection< String > keyPaths, final boolean parallel ) {
+        return new ObjectDiffer().diff( oldItems, newItems, keyPaths, parallel );
+    }
 
-                result.append( "    * " );
-                result.append( ObjectTools.getObjectDescriptionResume( object ) );
+    private static PropertyKeyedCollections keyedCollections( final Collection< String > propertyNames, final boolean parallel ) {
+        return new PropertyKeyedCollections( PropertyEquivalence.shared( propertyNames ), parallel );
+    }
 
-                if ( iterator.hasNext() ) {
-                    result.append( ", " ).append( "\r\n" );
-                } else {
-                    result.append( "." );
-                }
-            }
-        } else {
-            result.append( "    * -EMPTY-" );
-        }
+    public static String getObjectDescriptionResume( final Object object ) {
+        return ObjectDescriber.UNBOUNDED.describe( object );
+    }
 
-        return result.toString();
+    public static String describeObjectsCollection( Collection< Object > objects ) {
+        return ObjectDescriber.UNBOUNDED.describeAll( objects );
     }
 
-}
\ No newline at end of file
+}
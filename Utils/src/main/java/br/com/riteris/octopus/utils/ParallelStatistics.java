@@ -0,0 +1,171 @@
+package br.com.riteris.octopus.utils;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public final class ParallelStatistics {
+
+    private static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    private final ForkJoinPool pool;
+
+    private final int threshold;
+
+    public ParallelStatistics() {
+        this( ForkJoinPool.commonPool(), DEFAULT_THRESHOLD );
+    }
+
+    public ParallelStatistics( final ForkJoinPool pool, final int threshold ) {
+        if ( pool == null ) {
+            throw new IllegalArgumentException( "The fork-join pool can't be null." );
+        }
+
+        if ( threshold <= 0 ) {
+            throw new IllegalArgumentException( "The threshold must be greater than 0." );
+        }
+
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    public NumberStatistics compute( final double[] numbers ) {
+        validateNumbers( numbers == null || numbers.length == 0 );
+
+        return this.pool.invoke( new StatisticsTask( numbers, null, null, 0, numbers.length ) );
+    }
+
+    public NumberStatistics compute( final long[] numbers ) {
+        validateNumbers( numbers == null || numbers.length == 0 );
+
+        return this.pool.invoke( new StatisticsTask( null, numbers, null, 0, numbers.length ) );
+    }
+
+    public NumberStatistics computeWithPeakTreatment( final double[] numbers, final int scale, final double peakPercentual,
+                                                      final boolean substitutePeakWithAvg ) {
+        validateNumbers( numbers == null || numbers.length == 0 );
+
+        if ( peakPercentual < 0 ) {
+            throw new IllegalArgumentException( "The peak limit can't be negative." );
+        }
+
+        final BigDecimal simpleAvg = BigDecimal.valueOf( compute( numbers ).getAvg( scale ).doubleValue() );
+        final BigDecimal factor = NumberTools.peakFactor( simpleAvg, peakPercentual );
+        final PeakFilter filter = new PeakFilter( simpleAvg.subtract( factor ).doubleValue(), simpleAvg.add( factor ).doubleValue(),
+                simpleAvg.doubleValue(), substitutePeakWithAvg );
+
+        return this.pool.invoke( new StatisticsTask( numbers, null, filter, 0, numbers.length ) );
+    }
+
+    public Number avgWithScale( final double[] numbers, final int scale ) {
+        return compute( numbers ).getAvg( scale );
+    }
+
+    public Number avgWithScale( final long[] numbers, final int scale ) {
+        return compute( numbers ).getAvg( scale );
+    }
+
+    public Number avgWithScaleAndPeakTreatment( final double[] numbers, final int scale, final double peakPercentual, final boolean substitutePeakWithAvg ) {
+        final NumberStatistics statistics = computeWithPeakTreatment( numbers, scale, peakPercentual, substitutePeakWithAvg );
+
+        if ( statistics.getCount() == 0 ) {
+            throw new IllegalArgumentException( "No number remained to be calculated after the peak treatment." );
+        }
+
+        return statistics.getAvg( scale );
+    }
+
+    private static void validateNumbers( final boolean numbersAreNullOrEmpty ) {
+        if ( numbersAreNullOrEmpty ) {
+            throw new IllegalArgumentException( "The numbers array can't be null or empty." );
+        }
+    }
+
+    private static final class PeakFilter {
+
+        private final double minimumLimit;
+
+        private final double maximumLimit;
+
+        private final double substitute;
+
+        private final boolean substitutePeak;
+
+        private PeakFilter( final double minimumLimit, final double maximumLimit, final double substitute, final boolean substitutePeak ) {
+            this.minimumLimit = minimumLimit;
+            this.maximumLimit = maximumLimit;
+            this.substitute = substitute;
+            this.substitutePeak = substitutePeak;
+        }
+
+    }
+
+    private final class StatisticsTask extends RecursiveTask< NumberStatistics > {
+
+        private final double[] doubles;
+
+        private final long[] longs;
+
+        private final PeakFilter filter;
+
+        private final int start;
+
+        private final int end;
+
+        private StatisticsTask( final double[] doubles, final long[] longs, final PeakFilter filter, final int start, final int end ) {
+            this.doubles = doubles;
+            this.longs = longs;
+            this.filter = filter;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected NumberStatistics compute() {
+            if ( this.end - this.start <= threshold ) {
+                return computeSequentially();
+            }
+
+            final int middle = ( this.start + this.end ) >>> 1;
+            final StatisticsTask left = new StatisticsTask( this.doubles, this.longs, this.filter, this.start, middle );
+            final StatisticsTask right = new StatisticsTask( this.doubles, this.longs, this.filter, middle, this.end );
+
+            left.fork();
+
+            final NumberStatistics statistics = right.compute();
+            final NumberStatistics leftStatistics = left.join();
+
+            leftStatistics.merge( statistics );
+
+            return leftStatistics;
+        }
+
+        private NumberStatistics computeSequentially() {
+            final NumberStatistics statistics = new NumberStatistics( this.longs != null );
+
+            if ( this.longs != null ) {
+                for ( int i = this.start; i < this.end; i++ ) {
+                    statistics.add( this.longs[ i ] );
+                }
+            } else if ( this.filter == null ) {
+                for ( int i = this.start; i < this.end; i++ ) {
+                    statistics.add( this.doubles[ i ] );
+                }
+            } else {
+                for ( int i = this.start; i < this.end; i++ ) {
+                    final double number = this.doubles[ i ];
+
+                    if ( number < this.filter.minimumLimit || number > this.filter.maximumLimit ) {
+                        if ( this.filter.substitutePeak ) statistics.add( this.filter.substitute );
+                    } else {
+                        statistics.add( number );
+                    }
+                }
+            }
+
+            return statistics;
+        }
+
+    }
+
+}
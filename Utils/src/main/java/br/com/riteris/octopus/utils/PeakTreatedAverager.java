@@ -0,0 +1,195 @@
+package br.com.riteris.octopus.utils;
+
+import java.math.BigDecimal;
+
+public final class PeakTreatedAverager {
+
+    private final double peakPercentual;
+
+    private final boolean substitutePeakWithAvg;
+
+    private final LogHistogram histogram = new LogHistogram();
+
+    private CompensatedSum sum = new CompensatedSum();
+
+    private double min = Double.POSITIVE_INFINITY;
+
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public PeakTreatedAverager( final double peakPercentual, final boolean substitutePeakWithAvg ) {
+        if ( peakPercentual < 0 ) {
+            throw new IllegalArgumentException( "The peak limit can't be negative." );
+        }
+
+        this.peakPercentual = peakPercentual;
+        this.substitutePeakWithAvg = substitutePeakWithAvg;
+    }
+
+    public PeakTreatedAverager add( final double number ) {
+        this.histogram.add( number );
+        this.sum.add( number );
+
+        if ( number < this.min ) {
+            this.min = number;
+        }
+
+        if ( number > this.max ) {
+            this.max = number;
+        }
+
+        return this;
+    }
+
+    public PeakTreatedAverager add( final double[] numbers ) {
+        if ( numbers == null ) {
+            throw new IllegalArgumentException( "The numbers array can't be null." );
+        }
+
+        for ( double number : numbers ) {
+            add( number );
+        }
+
+        return this;
+    }
+
+    public PeakTreatedAverager add( final long[] numbers ) {
+        if ( numbers == null ) {
+            throw new IllegalArgumentException( "The numbers array can't be null." );
+        }
+
+        for ( long number : numbers ) {
+            add( ( double ) number );
+        }
+
+        return this;
+    }
+
+    public PeakTreatedAverager add( final int[] numbers ) {
+        if ( numbers == null ) {
+            throw new IllegalArgumentException( "The numbers array can't be null." );
+        }
+
+        for ( int number : numbers ) {
+            add( number );
+        }
+
+        return this;
+    }
+
+    public PeakTreatedAverager merge( final PeakTreatedAverager other ) {
+        if ( other == null ) {
+            throw new IllegalArgumentException( "The averager to merge can't be null." );
+        }
+
+        this.histogram.merge( other.histogram );
+        this.sum.combine( other.sum );
+        this.min = Math.min( this.min, other.min );
+        this.max = Math.max( this.max, other.max );
+
+        return this;
+    }
+
+    public void reset() {
+        this.histogram.clear();
+        this.sum = new CompensatedSum();
+        this.min = Double.POSITIVE_INFINITY;
+        this.max = Double.NEGATIVE_INFINITY;
+    }
+
+    public long getCount() {
+        return this.sum.getCount();
+    }
+
+    public Number getAvg( final int scale ) {
+        validateScale( scale );
+
+        return BigDecimal.valueOf( this.sum.getSum() ).divide( BigDecimal.valueOf( this.sum.getCount() ), scale, BigDecimal.ROUND_HALF_UP );
+    }
+
+    public Number getPeakTreatedAvg( final int scale ) {
+        final BigDecimal simpleAvg = BigDecimal.valueOf( getAvg( scale ).doubleValue() );
+        final BigDecimal factor = NumberTools.peakFactor( simpleAvg, this.peakPercentual );
+        final PeakAccumulation accumulation = new PeakAccumulation( simpleAvg.subtract( factor ).doubleValue(), simpleAvg.add( factor ).doubleValue() );
+
+        this.histogram.forEachBucket( accumulation );
+
+        double total = accumulation.retainedSum.getSum();
+        double count = accumulation.retainedCount;
+
+        if ( this.substitutePeakWithAvg ) {
+            total += accumulation.peakCount * simpleAvg.doubleValue();
+            count += accumulation.peakCount;
+        }
+
+        if ( count <= 0 ) {
+            throw new IllegalStateException( "No number remained to be calculated after the peak treatment." );
+        }
+
+        return BigDecimal.valueOf( total ).divide( BigDecimal.valueOf( count ), scale, BigDecimal.ROUND_HALF_UP );
+    }
+
+    private void validateScale( final int scale ) {
+        if ( scale < 0 ) {
+            throw new IllegalArgumentException( "The scale can't be negative." );
+        }
+
+        if ( this.sum.getCount() == 0 ) {
+            throw new IllegalStateException( "No number was added to the averager." );
+        }
+    }
+
+    private final class PeakAccumulation implements LogHistogram.BucketConsumer {
+
+        private final double minimumLimit;
+
+        private final double maximumLimit;
+
+        private final CompensatedSum retainedSum = new CompensatedSum();
+
+        private double retainedCount;
+
+        private double peakCount;
+
+        private PeakAccumulation( final double minimumLimit, final double maximumLimit ) {
+            this.minimumLimit = minimumLimit;
+            this.maximumLimit = maximumLimit;
+        }
+
+        @Override
+        public void accept( final double lowerBound, final double upperBound, final long count, final double sum ) {
+            final double lower = Math.max( lowerBound, min );
+            final double upper = Math.min( upperBound, max );
+            final double mean = sum / count;
+
+            final double retainedFraction;
+
+            if ( upper <= lower || mean <= lower || mean >= upper ) {
+                retainedFraction = mean >= this.minimumLimit && mean <= this.maximumLimit ? 1 : 0;
+            } else if ( lower >= this.minimumLimit && upper <= this.maximumLimit ) {
+                retainedFraction = 1;
+            } else if ( upper < this.minimumLimit || lower > this.maximumLimit ) {
+                retainedFraction = 0;
+            } else {
+                final double retainedLower = Math.max( lower, this.minimumLimit );
+                final double retainedUpper = Math.min( upper, this.maximumLimit );
+
+                retainedFraction = ( retainedUpper - retainedLower ) / ( upper - lower );
+
+                this.retainedCount += count * retainedFraction;
+                this.retainedSum.add( count * retainedFraction * ( retainedLower + retainedUpper ) / 2 );
+                this.peakCount += count * ( 1 - retainedFraction );
+
+                return;
+            }
+
+            if ( retainedFraction == 1 ) {
+                this.retainedCount += count;
+                this.retainedSum.add( sum );
+            } else {
+                this.peakCount += count;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,62 @@
+package br.com.riteris.octopus.utils;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public final class PropertyChange {
+
+    private final String path;
+
+    private final Object oldValue;
+
+    private final Object newValue;
+
+    public PropertyChange( final String path, final Object oldValue, final Object newValue ) {
+        if ( path == null || path.isEmpty() ) {
+            throw new IllegalArgumentException( "The property path can't be null or empty." );
+        }
+
+        this.path = path;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+    }
+
+    public String getPath() {
+        return this.path;
+    }
+
+    public Object getOldValue() {
+        return this.oldValue;
+    }
+
+    public Object getNewValue() {
+        return this.newValue;
+    }
+
+    @Override
+    public boolean equals( final Object other ) {
+        if ( this == other ) {
+            return true;
+        }
+
+        if ( !( other instanceof PropertyChange ) ) {
+            return false;
+        }
+
+        final PropertyChange change = ( PropertyChange ) other;
+
+        return this.path.equals( change.path ) && Objects.deepEquals( this.oldValue, change.oldValue ) && Objects.deepEquals( this.newValue,
+                change.newValue );
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.deepHashCode( new Object[]{ this.path, this.oldValue, this.newValue } );
+    }
+
+    @Override
+    public String toString() {
+        return this.path + ": " + ObjectDescriber.DEFAULT.describe( this.oldValue ) + " -> " + ObjectDescriber.DEFAULT.describe( this.newValue );
+    }
+
+}
@@ -0,0 +1,135 @@
+package br.com.riteris.octopus.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static br.com.riteris.octopus.utils.CollectionAndMapTools.collectionIsNullOrEmpty;
+
+public final class PropertyEquivalence {
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType( Object.class, Object.class );
+
+    private static final int SHARED_EQUIVALENCES_MAXIMUM_SIZE = 1024;
+
+    private static final Cache< List< String >, PropertyEquivalence > SHARED_EQUIVALENCES = CacheBuilder.newBuilder().maximumSize(
+            SHARED_EQUIVALENCES_MAXIMUM_SIZE ).build();
+
+    private final List< String > propertyNames;
+
+    private final PropertyPath[] paths;
+
+    public PropertyEquivalence( final Collection< String > propertyNames ) {
+        if ( collectionIsNullOrEmpty( propertyNames ) ) {
+            throw new IllegalArgumentException( "The property names collection can't be null or empty." );
+        }
+
+        for ( String propertyName : propertyNames ) {
+            if ( propertyName == null || propertyName.isEmpty() ) {
+                throw new IllegalArgumentException( "The property names collection can't contain null or empty names." );
+            }
+        }
+
+        this.propertyNames = Collections.unmodifiableList( new ArrayList<>( propertyNames ) );
+        this.paths = new PropertyPath[ this.propertyNames.size() ];
+
+        for ( int property = 0; property < this.paths.length; property++ ) {
+            this.paths[ property ] = PropertyPath.of( this.propertyNames.get( property ) );
+        }
+    }
+
+    static PropertyEquivalence shared( final Collection< String > propertyNames ) {
+        if ( collectionIsNullOrEmpty( propertyNames ) ) {
+            throw new IllegalArgumentException( "The property names collection can't be null or empty." );
+        }
+
+        final List< String > key = propertyNames instanceof List ? ( List< String > ) propertyNames : new ArrayList<>( propertyNames );
+        PropertyEquivalence equivalence = SHARED_EQUIVALENCES.getIfPresent( key );
+
+        if ( equivalence == null ) {
+            equivalence = new PropertyEquivalence( key );
+
+            SHARED_EQUIVALENCES.put( equivalence.propertyNames, equivalence );
+        }
+
+        return equivalence;
+    }
+
+    public List< String > getPropertyNames() {
+        return this.propertyNames;
+    }
+
+    public boolean areEquivalent( final Object objA, final Object objB ) {
+        if ( objA == null || objB == null ) {
+            return false;
+        }
+
+        for ( PropertyPath path : this.paths ) {
+            if ( !Objects.deepEquals( path.read( objA ), path.read( objB ) ) ) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public int hash( final Object object ) {
+        if ( object == null ) {
+            return 0;
+        }
+
+        int hash = 1;
+
+        for ( PropertyPath path : this.paths ) {
+            hash = 31 * hash + valueHash( path.read( object ) );
+        }
+
+        return hash;
+    }
+
+    private static int valueHash( final Object value ) {
+        return value instanceof Object[] ? Arrays.deepHashCode( ( Object[] ) value ) : value != null && value.getClass().isArray() ? Arrays.deepHashCode(
+                new Object[]{ value } ) : Objects.hashCode( value );
+    }
+
+    Object read( final Object object, final int property ) {
+        return this.paths[ property ].read( object );
+    }
+
+    static MethodHandle compileAccessor( final Class< ? > type, final String propertyName ) {
+        final Field field = findField( type, propertyName );
+
+        try {
+            field.setAccessible( true );
+
+            return MethodHandles.lookup().unreflectGetter( field ).asType( ACCESSOR_TYPE );
+        } catch ( IllegalAccessException | RuntimeException e ) {
+            throw new IllegalArgumentException( "The property '" + propertyName + "' of class " + type.getName() + " isn't accessible: " + e.getMessage(),
+                    e );
+        }
+    }
+
+    private static Field findField( final Class< ? > type, final String propertyName ) {
+        for ( Class< ? > current = type; current != null; current = current.getSuperclass() ) {
+            for ( Field field : current.getDeclaredFields() ) {
+                if ( field.getName().equals( propertyName ) && !Modifier.isStatic( field.getModifiers() ) ) {
+                    return field;
+                }
+            }
+        }
+
+        throw new IllegalArgumentException( "The property '" + propertyName + "' doesn't exist in class " + type.getName() + "." );
+    }
+
+}
@@ -0,0 +1,294 @@
+package br.com.riteris.octopus.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+final class PropertyKeyedCollections {
+
+    static final int NO_ITEM = -1;
+
+    private static final int PARTITIONS_PER_CORE = 4;
+
+    private final PropertyEquivalence equivalence;
+
+    private final int partitionBits;
+
+    PropertyKeyedCollections( final PropertyEquivalence equivalence, final boolean parallel ) {
+        this.equivalence = equivalence;
+        this.partitionBits = parallel ? 32 - Integer.numberOfLeadingZeros( Runtime.getRuntime().availableProcessors() * PARTITIONS_PER_CORE - 1 ) : 0;
+    }
+
+    < T > List< T > distinct( final Collection< T > items ) {
+        final Object[] values = toArray( items );
+
+        return select( values, firstOccurrences( values ) );
+    }
+
+    int firstDuplicate( final Object[] values ) {
+        final boolean[] firstOccurrences = firstOccurrences( values );
+
+        for ( int item = 0; item < values.length; item++ ) {
+            if ( !firstOccurrences[ item ] ) {
+                return item;
+            }
+        }
+
+        return NO_ITEM;
+    }
+
+    < T > Map< List< Object >, List< T > > group( final Collection< T > items ) {
+        final Object[] values = toArray( items );
+        final int[] hashes = hashes( values );
+        final int[] representatives = new int[ values.length ];
+
+        forEachPartition( hashes, ( indices, start, end ) -> {
+            final ProbeTable table = new ProbeTable( end - start );
+
+            for ( int i = start; i < end; i++ ) {
+                final int item = indices[ i ];
+                final int representative = table.find( values, hashes, values[ item ], hashes[ item ] );
+
+                if ( representative == NO_ITEM ) {
+                    table.insert( hashes, item );
+                    representatives[ item ] = item;
+                } else {
+                    representatives[ item ] = representative;
+                }
+            }
+        } );
+
+        final Map< List< Object >, List< T > > groups = new LinkedHashMap<>();
+        final List< List< T > > groupsByRepresentative = new ArrayList<>();
+        final int[] groupIndexes = new int[ values.length ];
+
+        for ( int item = 0; item < values.length; item++ ) {
+            @SuppressWarnings( "unchecked" ) final T value = ( T ) values[ item ];
+
+            if ( representatives[ item ] == item ) {
+                final List< T > group = new ArrayList<>();
+
+                groupIndexes[ item ] = groupsByRepresentative.size();
+                groupsByRepresentative.add( group );
+                groups.put( keyOf( value ), group );
+            }
+
+            groupsByRepresentative.get( groupIndexes[ representatives[ item ] ] ).add( value );
+        }
+
+        return groups;
+    }
+
+    < T > List< T > matching( final Collection< T > items, final Collection< ? > others, final boolean matched ) {
+        final Object[] values = toArray( items );
+        final int[] matches = match( values, toArray( others ) );
+        final boolean[] keep = new boolean[ values.length ];
+
+        for ( int item = 0; item < values.length; item++ ) {
+            keep[ item ] = ( matches[ item ] != NO_ITEM ) == matched;
+        }
+
+        return select( values, keep );
+    }
+
+    int[] match( final Object[] values, final Object[] otherValues ) {
+        final int[] hashes = hashes( values );
+        final int[] otherHashes = hashes( otherValues );
+        final int[] partitionStarts = new int[ ( 1 << this.partitionBits ) + 1 ];
+        final int[] partitionedItems = partition( hashes, partitionStarts );
+        final int[] otherPartitionStarts = new int[ partitionStarts.length ];
+        final int[] partitionedOthers = partition( otherHashes, otherPartitionStarts );
+        final int[] matches = new int[ values.length ];
+
+        runPartitions( partitionStarts.length - 1, partitionIndex -> {
+            final int otherStart = otherPartitionStarts[ partitionIndex ];
+            final int otherEnd = otherPartitionStarts[ partitionIndex + 1 ];
+            final ProbeTable table = new ProbeTable( otherEnd - otherStart );
+
+            for ( int i = otherStart; i < otherEnd; i++ ) {
+                table.insert( otherHashes, partitionedOthers[ i ] );
+            }
+
+            for ( int i = partitionStarts[ partitionIndex ]; i < partitionStarts[ partitionIndex + 1 ]; i++ ) {
+                final int item = partitionedItems[ i ];
+
+                matches[ item ] = table.find( otherValues, otherHashes, values[ item ], hashes[ item ] );
+            }
+        } );
+
+        return matches;
+    }
+
+    List< Object > keyOf( final Object item ) {
+        final List< Object > key = new ArrayList<>( this.equivalence.getPropertyNames().size() );
+
+        for ( int property = 0; property < this.equivalence.getPropertyNames().size(); property++ ) {
+            key.add( this.equivalence.read( item, property ) );
+        }
+
+        return key;
+    }
+
+    static Object[] toArray( final Collection< ? > items ) {
+        if ( items == null ) {
+            throw new IllegalArgumentException( "The collection can't be null." );
+        }
+
+        final Object[] values = items.toArray();
+
+        for ( Object value : values ) {
+            if ( value == null ) {
+                throw new IllegalArgumentException( "The collection can't contain null elements." );
+            }
+        }
+
+        return values;
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private static < T > List< T > select( final Object[] values, final boolean[] keep ) {
+        final List< T > selected = new ArrayList<>();
+
+        for ( int item = 0; item < values.length; item++ ) {
+            if ( keep[ item ] ) {
+                selected.add( ( T ) values[ item ] );
+            }
+        }
+
+        return selected;
+    }
+
+    private static int spread( final int hash ) {
+        final int spread = hash * 0x9E3779B9;
+
+        return spread ^ ( spread >>> 16 );
+    }
+
+    private boolean[] firstOccurrences( final Object[] values ) {
+        final int[] hashes = hashes( values );
+        final boolean[] firstOccurrences = new boolean[ values.length ];
+
+        forEachPartition( hashes, ( indices, start, end ) -> {
+            final ProbeTable table = new ProbeTable( end - start );
+
+            for ( int i = start; i < end; i++ ) {
+                final int item = indices[ i ];
+
+                if ( table.find( values, hashes, values[ item ], hashes[ item ] ) == NO_ITEM ) {
+                    table.insert( hashes, item );
+                    firstOccurrences[ item ] = true;
+                }
+            }
+        } );
+
+        return firstOccurrences;
+    }
+
+    private int[] hashes( final Object[] values ) {
+        final int[] hashes = new int[ values.length ];
+
+        if ( this.partitionBits > 0 ) {
+            IntStream.range( 0, values.length ).parallel().forEach( item -> hashes[ item ] = spread( this.equivalence.hash( values[ item ] ) ) );
+        } else {
+            for ( int item = 0; item < values.length; item++ ) {
+                hashes[ item ] = spread( this.equivalence.hash( values[ item ] ) );
+            }
+        }
+
+        return hashes;
+    }
+
+    private int partitionOf( final int hash ) {
+        return this.partitionBits == 0 ? 0 : hash >>> ( 32 - this.partitionBits );
+    }
+
+    private int[] partition( final int[] hashes, final int[] partitionStarts ) {
+        for ( int hash : hashes ) {
+            partitionStarts[ partitionOf( hash ) + 1 ]++;
+        }
+
+        for ( int partitionIndex = 1; partitionIndex < partitionStarts.length; partitionIndex++ ) {
+            partitionStarts[ partitionIndex ] += partitionStarts[ partitionIndex - 1 ];
+        }
+
+        final int[] positions = partitionStarts.clone();
+        final int[] partitioned = new int[ hashes.length ];
+
+        for ( int item = 0; item < hashes.length; item++ ) {
+            partitioned[ positions[ partitionOf( hashes[ item ] ) ]++ ] = item;
+        }
+
+        return partitioned;
+    }
+
+    private void forEachPartition( final int[] hashes, final PartitionTask task ) {
+        final int[] partitionStarts = new int[ ( 1 << this.partitionBits ) + 1 ];
+        final int[] partitioned = partition( hashes, partitionStarts );
+
+        runPartitions( partitionStarts.length - 1, partitionIndex -> task.run( partitioned, partitionStarts[ partitionIndex ],
+                partitionStarts[ partitionIndex + 1 ] ) );
+    }
+
+    private void runPartitions( final int partitions, final IntConsumer partitionTask ) {
+        if ( partitions > 1 ) {
+            IntStream.range( 0, partitions ).parallel().forEach( partitionTask );
+        } else {
+            partitionTask.accept( 0 );
+        }
+    }
+
+    private interface PartitionTask {
+
+        void run( int[] indices, int start, int end );
+
+    }
+
+    private final class ProbeTable {
+
+        private final int[] slots;
+
+        private final int mask;
+
+        private ProbeTable( final int expectedItems ) {
+            int capacity = 4;
+
+            while ( capacity < expectedItems * 2 ) {
+                capacity <<= 1;
+            }
+
+            this.slots = new int[ capacity ];
+            this.mask = capacity - 1;
+
+            Arrays.fill( this.slots, NO_ITEM );
+        }
+
+        private void insert( final int[] hashes, final int item ) {
+            int slot = hashes[ item ] & this.mask;
+
+            while ( this.slots[ slot ] != NO_ITEM ) {
+                slot = ( slot + 1 ) & this.mask;
+            }
+
+            this.slots[ slot ] = item;
+        }
+
+        private int find( final Object[] tableValues, final int[] tableHashes, final Object value, final int hash ) {
+            for ( int slot = hash & this.mask; this.slots[ slot ] != NO_ITEM; slot = ( slot + 1 ) & this.mask ) {
+                final int item = this.slots[ slot ];
+
+                if ( tableHashes[ item ] == hash && equivalence.areEquivalent( tableValues[ item ], value ) ) {
+                    return item;
+                }
+            }
+
+            return NO_ITEM;
+        }
+
+    }
+
+}
@@ -0,0 +1,157 @@
+package br.com.riteris.octopus.utils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+public final class PropertyPath implements Function< Object, Object > {
+
+    private static final int SHARED_PATHS_MAXIMUM_SIZE = 4096;
+
+    private static final Cache< String, PropertyPath > SHARED_PATHS = CacheBuilder.newBuilder().maximumSize( SHARED_PATHS_MAXIMUM_SIZE ).build();
+
+    private final String path;
+
+    private final List< String > segments;
+
+    private final Segment[] accessors;
+
+    public PropertyPath( final String path ) {
+        if ( path == null || path.isEmpty() ) {
+            throw new IllegalArgumentException( "The property path can't be null or empty." );
+        }
+
+        final List< String > names = new ArrayList<>();
+
+        for ( int start = 0, end; start <= path.length(); start = end + 1 ) {
+            end = path.indexOf( '.', start );
+
+            if ( end < 0 ) {
+                end = path.length();
+            }
+
+            if ( end == start ) {
+                throw new IllegalArgumentException( "The property path '" + path + "' contains an empty segment." );
+            }
+
+            names.add( path.substring( start, end ) );
+        }
+
+        this.path = path;
+        this.segments = Collections.unmodifiableList( names );
+        this.accessors = new Segment[ names.size() ];
+
+        for ( int segment = 0; segment < this.accessors.length; segment++ ) {
+            this.accessors[ segment ] = new Segment( names.get( segment ) );
+        }
+    }
+
+    public static PropertyPath of( final String path ) {
+        if ( path == null || path.isEmpty() ) {
+            throw new IllegalArgumentException( "The property path can't be null or empty." );
+        }
+
+        PropertyPath propertyPath = SHARED_PATHS.getIfPresent( path );
+
+        if ( propertyPath == null ) {
+            propertyPath = new PropertyPath( path );
+
+            SHARED_PATHS.put( path, propertyPath );
+        }
+
+        return propertyPath;
+    }
+
+    public String getPath() {
+        return this.path;
+    }
+
+    public List< String > getSegments() {
+        return this.segments;
+    }
+
+    public Object read( final Object object ) {
+        Object value = object;
+
+        for ( Segment segment : this.accessors ) {
+            if ( value == null ) {
+                return null;
+            }
+
+            value = segment.read( value );
+        }
+
+        return value;
+    }
+
+    @Override
+    public Object apply( final Object object ) {
+        return read( object );
+    }
+
+    public boolean areEqual( final Object objA, final Object objB ) {
+        return Objects.deepEquals( read( objA ), read( objB ) );
+    }
+
+    @SuppressWarnings( "unchecked" )
+    public < T > Comparator< T > comparator() {
+        return ( objA, objB ) -> {
+            final Object valueA = read( objA );
+            final Object valueB = read( objB );
+
+            if ( valueA == null || valueB == null ) {
+                return valueA == null ? ( valueB == null ? 0 : -1 ) : 1;
+            }
+
+            if ( !( valueA instanceof Comparable ) ) {
+                throw new IllegalStateException( "The property path '" + this.path + "' leads to a non comparable value of class " + valueA.getClass()
+                        .getName() + "." );
+            }
+
+            return ( ( Comparable< Object > ) valueA ).compareTo( valueB );
+        };
+    }
+
+    @Override
+    public String toString() {
+        return this.path;
+    }
+
+    private static final class Segment {
+
+        private final String name;
+
+        private final ClassValue< MethodHandle > accessors = new ClassValue< MethodHandle >() {
+
+            @Override
+            protected MethodHandle computeValue( final Class< ? > type ) {
+                return PropertyEquivalence.compileAccessor( type, Segment.this.name );
+            }
+
+        };
+
+        private Segment( final String name ) {
+            this.name = name;
+        }
+
+        private Object read( final Object object ) {
+            try {
+                return ( Object ) this.accessors.get( object.getClass() ).invokeExact( object );
+            } catch ( RuntimeException | Error e ) {
+                throw e;
+            } catch ( Throwable e ) {
+                throw new IllegalStateException( "Error reading the property '" + this.name + "' of class " + object.getClass().getName() + ": " + e
+                        .getMessage(), e );
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,256 @@
+package br.com.riteris.octopus.utils;
+
+import java.math.BigDecimal;
+
+public final class QuantileSketch {
+
+    private final LogHistogram histogram = new LogHistogram();
+
+    private double min = Double.POSITIVE_INFINITY;
+
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public QuantileSketch add( final double number ) {
+        this.histogram.add( number );
+
+        if ( number < this.min ) {
+            this.min = number;
+        }
+
+        if ( number > this.max ) {
+            this.max = number;
+        }
+
+        return this;
+    }
+
+    public QuantileSketch add( final double[] numbers ) {
+        if ( numbers == null ) {
+            throw new IllegalArgumentException( "The numbers array can't be null." );
+        }
+
+        for ( double number : numbers ) {
+            add( number );
+        }
+
+        return this;
+    }
+
+    public QuantileSketch add( final long[] numbers ) {
+        if ( numbers == null ) {
+            throw new IllegalArgumentException( "The numbers array can't be null." );
+        }
+
+        for ( long number : numbers ) {
+            add( ( double ) number );
+        }
+
+        return this;
+    }
+
+    public QuantileSketch merge( final QuantileSketch other ) {
+        if ( other == null ) {
+            throw new IllegalArgumentException( "The sketch to merge can't be null." );
+        }
+
+        this.histogram.merge( other.histogram );
+        this.min = Math.min( this.min, other.min );
+        this.max = Math.max( this.max, other.max );
+
+        return this;
+    }
+
+    public void reset() {
+        this.histogram.clear();
+        this.min = Double.POSITIVE_INFINITY;
+        this.max = Double.NEGATIVE_INFINITY;
+    }
+
+    public long getCount() {
+        return this.histogram.getTotalCount();
+    }
+
+    public double getMin() {
+        return this.min;
+    }
+
+    public double getMax() {
+        return this.max;
+    }
+
+    public double getQuantile( final double quantile ) {
+        if ( quantile < 0 || quantile > 1 ) {
+            throw new IllegalArgumentException( "The quantile must be between 0 and 1." );
+        }
+
+        validateNotEmpty();
+
+        if ( quantile == 0 ) {
+            return this.min;
+        }
+
+        if ( quantile == 1 ) {
+            return this.max;
+        }
+
+        final QuantileSearch search = new QuantileSearch( quantile * ( getCount() - 1 ) );
+
+        this.histogram.forEachBucket( search );
+
+        return search.value;
+    }
+
+    public double getMedian() {
+        return getQuantile( 0.5 );
+    }
+
+    public BigDecimal getTrimmedAvg( final double lowerQuantile, final double upperQuantile, final int scale ) {
+        if ( scale < 0 ) {
+            throw new IllegalArgumentException( "The scale can't be negative." );
+        }
+
+        final TrimmedAccumulation accumulation = trim( lowerQuantile, upperQuantile );
+
+        if ( accumulation.keptCount == 0 ) {
+            throw new IllegalStateException( "No number remained to be calculated after the trimming." );
+        }
+
+        return BigDecimal.valueOf( accumulation.keptSum ).divide( BigDecimal.valueOf( accumulation.keptCount ), scale, BigDecimal.ROUND_HALF_UP );
+    }
+
+    double getTrimmedSum( final double lowerQuantile, final double upperQuantile ) {
+        return trim( lowerQuantile, upperQuantile ).keptSum;
+    }
+
+    long getTrimmedCount( final double lowerQuantile, final double upperQuantile ) {
+        validateQuantileRange( lowerQuantile, upperQuantile );
+
+        final long count = getCount();
+
+        return Math.max( 0, count - floorRank( count * lowerQuantile ) - floorRank( count * ( 1 - upperQuantile ) ) );
+    }
+
+    private TrimmedAccumulation trim( final double lowerQuantile, final double upperQuantile ) {
+        validateQuantileRange( lowerQuantile, upperQuantile );
+        validateNotEmpty();
+
+        final long count = getCount();
+        final long keptStart = floorRank( count * lowerQuantile );
+        final TrimmedAccumulation accumulation = new TrimmedAccumulation( keptStart, keptStart + getTrimmedCount( lowerQuantile, upperQuantile ) );
+
+        this.histogram.forEachBucket( accumulation );
+
+        return accumulation;
+    }
+
+    private static long floorRank( final double rank ) {
+        final double nearest = Math.rint( rank );
+
+        return Math.abs( rank - nearest ) <= 1e-9 * Math.max( 1, rank ) ? ( long ) nearest : ( long ) Math.floor( rank );
+    }
+
+    private void validateQuantileRange( final double lowerQuantile, final double upperQuantile ) {
+        if ( lowerQuantile < 0 || upperQuantile > 1 || lowerQuantile >= upperQuantile ) {
+            throw new IllegalArgumentException( "The quantiles must satisfy 0 <= lower < upper <= 1." );
+        }
+    }
+
+    private void validateNotEmpty() {
+        if ( getCount() == 0 ) {
+            throw new IllegalStateException( "No number was added to the sketch." );
+        }
+    }
+
+    private double clampedLowerBound( final double lowerBound ) {
+        return Math.max( lowerBound, this.min );
+    }
+
+    private double clampedUpperBound( final double upperBound ) {
+        return Math.min( upperBound, this.max );
+    }
+
+    private final class QuantileSearch implements LogHistogram.BucketConsumer {
+
+        private final double rank;
+
+        private long seen;
+
+        private double value = Double.NaN;
+
+        private QuantileSearch( final double rank ) {
+            this.rank = rank;
+        }
+
+        @Override
+        public void accept( final double lowerBound, final double upperBound, final long count, final double sum ) {
+            if ( !Double.isNaN( this.value ) || this.seen + count <= this.rank ) {
+                this.seen += count;
+
+                return;
+            }
+
+            final double lower = clampedLowerBound( lowerBound );
+            final double upper = clampedUpperBound( upperBound );
+            final double mean = sum / count;
+
+            if ( count == 1 || upper <= lower || mean <= lower || mean >= upper ) {
+                this.value = mean;
+            } else {
+                this.value = lower + ( upper - lower ) * ( ( this.rank - this.seen + 0.5 ) / count );
+            }
+
+            this.seen += count;
+        }
+
+    }
+
+    private final class TrimmedAccumulation implements LogHistogram.BucketConsumer {
+
+        private final long keptStart;
+
+        private final long keptEnd;
+
+        private long seen;
+
+        private long keptCount;
+
+        private double keptSum;
+
+        private TrimmedAccumulation( final long keptStart, final long keptEnd ) {
+            this.keptStart = keptStart;
+            this.keptEnd = keptEnd;
+        }
+
+        @Override
+        public void accept( final double lowerBound, final double upperBound, final long count, final double sum ) {
+            final long start = Math.max( this.seen, this.keptStart );
+            final long end = Math.min( this.seen + count, this.keptEnd );
+
+            if ( end > start ) {
+                final long kept = end - start;
+
+                if ( kept == count ) {
+                    this.keptSum += sum;
+                } else {
+                    final double lower = clampedLowerBound( lowerBound );
+                    final double upper = clampedUpperBound( upperBound );
+                    final double mean = sum / count;
+
+                    if ( upper <= lower || mean <= lower || mean >= upper ) {
+                        this.keptSum += kept * mean;
+                    } else {
+                        final double middle = ( ( start - this.seen ) + ( end - this.seen ) ) / ( 2.0 * count );
+
+                        this.keptSum += kept * ( lower + ( upper - lower ) * middle );
+                    }
+                }
+
+                this.keptCount += kept;
+            }
+
+            this.seen += count;
+        }
+
+    }
+
+}
@@ -0,0 +1,383 @@
+package br.com.riteris.octopus.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.util.HashMap;
+import java.util.Map;
+
+import static br.com.riteris.octopus.utils.CollectionAndMapTools.mapIsNullOrEmpty;
+import static br.com.riteris.octopus.utils.CompiledTemplate.isLineTerminator;
+import static br.com.riteris.octopus.utils.StringTools.stringIsNullOrEmptyOrBlank;
+
+public final class StreamingTemplateRenderer {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final Map< String, String > replacementMap;
+
+    private final char[] leftDelimiter;
+
+    private final char[] rightDelimiter;
+
+    private final int[] leftDelimiterFailure;
+
+    private final int[] rightDelimiterFailure;
+
+    private final int maximumKeyLength;
+
+    private final int bufferSize;
+
+    public StreamingTemplateRenderer( final Map< String, String > replacementMap, final String leftDelimiter, final String rightDelimiter ) {
+        this( replacementMap, leftDelimiter, rightDelimiter, DEFAULT_BUFFER_SIZE );
+    }
+
+    public StreamingTemplateRenderer( final Map< String, String > replacementMap, final String leftDelimiter, final String rightDelimiter,
+                                      final int bufferSize ) {
+        if ( mapIsNullOrEmpty( replacementMap ) ) {
+            throw new IllegalArgumentException( "Replacement map can't be null or empty." );
+        }
+
+        if ( stringIsNullOrEmptyOrBlank( leftDelimiter ) || stringIsNullOrEmptyOrBlank( rightDelimiter ) ) {
+            throw new IllegalArgumentException( "Left and right delimiters can't be null, empty or blank." );
+        }
+
+        if ( bufferSize <= 0 ) {
+            throw new IllegalArgumentException( "The buffer size must be greater than 0." );
+        }
+
+        this.replacementMap = new HashMap<>( replacementMap );
+        this.leftDelimiter = leftDelimiter.toCharArray();
+        this.rightDelimiter = rightDelimiter.toCharArray();
+        this.leftDelimiterFailure = buildFailureTable( this.leftDelimiter );
+        this.rightDelimiterFailure = buildFailureTable( this.rightDelimiter );
+        this.bufferSize = bufferSize;
+
+        int keyLength = 0;
+
+        for ( String key : this.replacementMap.keySet() ) {
+            if ( key == null ) {
+                throw new IllegalArgumentException( "Replacement map can't contain null keys." );
+            }
+
+            keyLength = Math.max( keyLength, key.length() );
+        }
+
+        this.maximumKeyLength = keyLength;
+    }
+
+    private static int[] buildFailureTable( final char[] pattern ) {
+        final int[] failure = new int[ pattern.length ];
+
+        for ( int i = 1, matched = 0; i < pattern.length; i++ ) {
+            while ( matched > 0 && pattern[ i ] != pattern[ matched ] ) {
+                matched = failure[ matched - 1 ];
+            }
+
+            if ( pattern[ i ] == pattern[ matched ] ) {
+                matched++;
+            }
+
+            failure[ i ] = matched;
+        }
+
+        return failure;
+    }
+
+    public void render( final CharSequence template, final Appendable target ) throws IOException {
+        if ( template == null ) {
+            throw new IllegalArgumentException( "The template can't be null." );
+        }
+
+        if ( target == null ) {
+            throw new IllegalArgumentException( "The render target can't be null." );
+        }
+
+        final RenderState state = new RenderState( target );
+
+        for ( int i = 0, length = template.length(); i < length; i++ ) {
+            state.process( template.charAt( i ) );
+        }
+
+        state.finish();
+    }
+
+    public void render( final Reader template, final Appendable target ) throws IOException {
+        if ( template == null ) {
+            throw new IllegalArgumentException( "The template can't be null." );
+        }
+
+        if ( target == null ) {
+            throw new IllegalArgumentException( "The render target can't be null." );
+        }
+
+        final RenderState state = new RenderState( target );
+        final char[] input = new char[ this.bufferSize ];
+
+        int read;
+
+        while ( ( read = template.read( input ) ) >= 0 ) {
+            for ( int i = 0; i < read; i++ ) {
+                state.process( input[ i ] );
+            }
+        }
+
+        state.finish();
+    }
+
+    public void render( final CharSequence template, final WritableByteChannel target, final Charset charset ) throws IOException {
+        final ChannelWriter writer = openChannelWriter( target, charset );
+
+        render( template, writer );
+
+        writer.close();
+    }
+
+    public void render( final Reader template, final WritableByteChannel target, final Charset charset ) throws IOException {
+        final ChannelWriter writer = openChannelWriter( target, charset );
+
+        render( template, writer );
+
+        writer.close();
+    }
+
+    private ChannelWriter openChannelWriter( final WritableByteChannel target, final Charset charset ) {
+        if ( target == null ) {
+            throw new IllegalArgumentException( "The render target can't be null." );
+        }
+
+        if ( charset == null ) {
+            throw new IllegalArgumentException( "The charset can't be null." );
+        }
+
+        return new ChannelWriter( target, charset.newEncoder(), this.bufferSize );
+    }
+
+    private static final class ChannelWriter extends Writer {
+
+        private final WritableByteChannel channel;
+
+        private final CharsetEncoder encoder;
+
+        private final CharBuffer input;
+
+        private final ByteBuffer output;
+
+        private ChannelWriter( final WritableByteChannel channel, final CharsetEncoder encoder, final int bufferSize ) {
+            this.channel = channel;
+            this.encoder = encoder;
+            this.input = CharBuffer.allocate( bufferSize + 1 );
+            this.output = ByteBuffer.allocate( ( bufferSize + 1 ) * ( int ) Math.ceil( encoder.maxBytesPerChar() ) );
+        }
+
+        @Override
+        public void write( final char[] characters, final int offset, final int length ) throws IOException {
+            for ( int written = 0; written < length; ) {
+                final int count = Math.min( length - written, this.input.remaining() );
+
+                this.input.put( characters, offset + written, count );
+                written += count;
+
+                encode( false );
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            drain();
+        }
+
+        @Override
+        public void close() throws IOException {
+            encode( true );
+
+            while ( this.encoder.flush( this.output ).isOverflow() ) {
+                drain();
+            }
+
+            drain();
+        }
+
+        private void encode( final boolean endOfInput ) throws IOException {
+            this.input.flip();
+
+            try {
+                while ( true ) {
+                    final CoderResult result = this.encoder.encode( this.input, this.output, endOfInput );
+
+                    if ( result.isOverflow() ) {
+                        drain();
+                    } else if ( result.isUnderflow() ) {
+                        break;
+                    } else {
+                        result.throwException();
+                    }
+                }
+            } finally {
+                this.input.compact();
+            }
+        }
+
+        private void drain() throws IOException {
+            this.output.flip();
+
+            while ( this.output.hasRemaining() ) {
+                this.channel.write( this.output );
+            }
+
+            this.output.clear();
+        }
+
+    }
+
+    private final class RenderState {
+
+        private final AppendableBuffer output;
+
+        private final StringBuilder placeholder;
+
+        private boolean insidePlaceholder;
+
+        private boolean placeholderOverflowed;
+
+        private int placeholderLength;
+
+        private int leftMatched;
+
+        private int rightMatched;
+
+        private RenderState( final Appendable target ) {
+            this.output = new AppendableBuffer( target, bufferSize );
+            this.placeholder = new StringBuilder( maximumKeyLength + rightDelimiter.length );
+        }
+
+        private void process( final char character ) throws IOException {
+            if ( this.insidePlaceholder ) {
+                processPlaceholder( character );
+            } else {
+                processLiteral( character );
+            }
+        }
+
+        private void processLiteral( final char character ) throws IOException {
+            while ( this.leftMatched > 0 && character != leftDelimiter[ this.leftMatched ] ) {
+                final int fallback = leftDelimiterFailure[ this.leftMatched - 1 ];
+
+                emit( leftDelimiter, 0, this.leftMatched - fallback );
+
+                this.leftMatched = fallback;
+            }
+
+            if ( character != leftDelimiter[ this.leftMatched ] ) {
+                emit( character );
+            } else if ( ++this.leftMatched == leftDelimiter.length ) {
+                this.leftMatched = 0;
+                this.insidePlaceholder = true;
+                this.placeholderOverflowed = false;
+                this.placeholderLength = 0;
+                this.rightMatched = 0;
+                this.placeholder.setLength( 0 );
+            }
+        }
+
+        private void processPlaceholder( final char character ) throws IOException {
+            if ( isLineTerminator( character ) ) {
+                abandonPlaceholder();
+                emit( character );
+
+                return;
+            }
+
+            this.placeholderLength++;
+
+            if ( this.placeholderOverflowed ) {
+                emit( character );
+            } else {
+                this.placeholder.append( character );
+            }
+
+            while ( this.rightMatched > 0 && character != rightDelimiter[ this.rightMatched ] ) {
+                this.rightMatched = rightDelimiterFailure[ this.rightMatched - 1 ];
+            }
+
+            if ( character == rightDelimiter[ this.rightMatched ] && ++this.rightMatched == rightDelimiter.length ) {
+                if ( this.placeholderLength > rightDelimiter.length ) {
+                    closePlaceholder();
+
+                    return;
+                }
+
+                this.rightMatched = rightDelimiterFailure[ this.rightMatched - 1 ];
+            }
+
+            if ( !this.placeholderOverflowed && this.placeholder.length() >= maximumKeyLength + rightDelimiter.length ) {
+                emit( leftDelimiter, 0, leftDelimiter.length );
+                emit( this.placeholder );
+
+                this.placeholderOverflowed = true;
+            }
+        }
+
+        private void closePlaceholder() throws IOException {
+            this.insidePlaceholder = false;
+
+            if ( this.placeholderOverflowed ) {
+                return;
+            }
+
+            final String value = replacementMap.get( this.placeholder.substring( 0, this.placeholder.length() - rightDelimiter.length ) );
+
+            if ( value != null ) {
+                emit( value );
+            } else {
+                emit( leftDelimiter, 0, leftDelimiter.length );
+                emit( this.placeholder );
+            }
+        }
+
+        private void abandonPlaceholder() throws IOException {
+            this.insidePlaceholder = false;
+
+            if ( !this.placeholderOverflowed ) {
+                emit( leftDelimiter, 0, leftDelimiter.length );
+                emit( this.placeholder );
+            }
+        }
+
+        private void finish() throws IOException {
+            if ( this.insidePlaceholder ) {
+                abandonPlaceholder();
+            } else {
+                emit( leftDelimiter, 0, this.leftMatched );
+
+                this.leftMatched = 0;
+            }
+
+            flush();
+        }
+
+        private void emit( final char character ) throws IOException {
+            this.output.append( character );
+        }
+
+        private void emit( final char[] characters, final int start, final int end ) throws IOException {
+            this.output.append( characters, start, end );
+        }
+
+        private void emit( final CharSequence characters ) throws IOException {
+            this.output.append( characters );
+        }
+
+        private void flush() throws IOException {
+            this.output.flush();
+        }
+
+    }
+
+}
@@ -1,39 +1,49 @@
 package br.com.riteris.octopus.utils;
 
-import java.util.HashMap;
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static br.com.riteris.octopus.utils.CollectionAndMapTools.mapIsNullOrEmpty;
 
 public final class StringTools {
 
+    private static final char[] BLANK_SPACES = new char[ 256 ];
+
+    static {
+        Arrays.fill( BLANK_SPACES, ' ' );
+    }
+
     private StringTools() {
     }
 
-    public static String trimStringAtLeft( String stringToTrim ) {
+    public static String trimStringAtLeft( final String stringToTrim ) {
         if ( stringToTrim == null || stringToTrim.isEmpty() ) {
             return stringToTrim;
         }
 
-        while ( stringToTrim.startsWith( " " ) ) {
-            stringToTrim = stringToTrim.substring( 1 );
+        int start = 0;
+
+        while ( start < stringToTrim.length() && stringToTrim.charAt( start ) == ' ' ) {
+            start++;
         }
 
-        return stringToTrim;
+        return stringToTrim.substring( start );
     }
 
-    public static String trimStringAtRight( String stringToTrim ) {
+    public static String trimStringAtRight( final String stringToTrim ) {
         if ( stringToTrim == null || stringToTrim.isEmpty() ) {
             return stringToTrim;
         }
 
-        while ( stringToTrim.endsWith( " " ) ) {
-            stringToTrim = stringToTrim.substring( 0, stringToTrim.length() - 1 );
+        int end = stringToTrim.length();
+
+        while ( end > 0 && stringToTrim.charAt( end - 1 ) == ' ' ) {
+            end--;
         }
 
-        return stringToTrim;
+        return stringToTrim.substring( 0, end );
     }
 
     public static String fillStringAtLeftWithBlankSpacesToDesiredLength( String stringToFillWithBlankSpaces, final int desiredLength ) {
@@ -49,9 +59,53 @@ public final class StringTools {
             return stringToFillWithBlankSpaces;
         }
 
-        int blankSpacesNumberToAdd = desiredLength - stringToFillWithBlankSpaces.length();
+        return fillStringAtLeftWithBlankSpacesToDesiredLength( stringToFillWithBlankSpaces, desiredLength, new StringBuilder( desiredLength ) ).toString();
+    }
+
+    public static StringBuilder fillStringAtLeftWithBlankSpacesToDesiredLength( final CharSequence charsToFillWithBlankSpaces, final int desiredLength,
+                                                                                final StringBuilder target ) {
+        if ( desiredLength <= 0 ) {
+            throw new IllegalArgumentException( "Desired length must be greater than 0." );
+        }
+
+        if ( target == null ) {
+            throw new IllegalArgumentException( "The target builder can't be null." );
+        }
+
+        final CharSequence chars = charsToFillWithBlankSpaces != null ? charsToFillWithBlankSpaces : "";
+
+        return appendBlankSpaces( target, desiredLength - chars.length() ).append( chars );
+    }
+
+    public static int fillStringAtLeftWithBlankSpacesToDesiredLength( final CharSequence charsToFillWithBlankSpaces, final int desiredLength,
+                                                                      final char[] target, final int offset ) {
+        if ( desiredLength <= 0 ) {
+            throw new IllegalArgumentException( "Desired length must be greater than 0." );
+        }
+
+        final CharSequence chars = charsToFillWithBlankSpaces != null ? charsToFillWithBlankSpaces : "";
+        final int blankSpacesNumberToAdd = Math.max( desiredLength - chars.length(), 0 );
+
+        checkTargetCapacity( target, offset, blankSpacesNumberToAdd + chars.length() );
+
+        Arrays.fill( target, offset, offset + blankSpacesNumberToAdd, ' ' );
+
+        return copyChars( chars, target, offset + blankSpacesNumberToAdd );
+    }
+
+    public static StringBuilder appendBlankSpaces( final StringBuilder target, int numberOfSpaces ) {
+        if ( target == null ) {
+            throw new IllegalArgumentException( "The target builder can't be null." );
+        }
+
+        while ( numberOfSpaces > 0 ) {
+            final int spacesToAppend = Math.min( numberOfSpaces, BLANK_SPACES.length );
 
-        return addBlankSpacesToString( stringToFillWithBlankSpaces, blankSpacesNumberToAdd, true, false );
+            target.append( BLANK_SPACES, 0, spacesToAppend );
+            numberOfSpaces -= spacesToAppend;
+        }
+
+        return target;
     }
 
     public static String addBlankSpacesToString( String stringToAddBlankSpaces, final int numberOfSpaces, final boolean atLeft, final boolean atRight ) {
@@ -67,19 +121,19 @@ public final class StringTools {
             stringToAddBlankSpaces = "";
         }
 
+        final StringBuilder result = new StringBuilder( stringToAddBlankSpaces.length() + ( atLeft && atRight ? 2 * numberOfSpaces : numberOfSpaces ) );
+
         if ( atLeft ) {
-            for ( int i = 0; i < numberOfSpaces; i++ ) {
-                stringToAddBlankSpaces = " " + stringToAddBlankSpaces;
-            }
+            appendBlankSpaces( result, numberOfSpaces );
         }
 
+        result.append( stringToAddBlankSpaces );
+
         if ( atRight ) {
-            for ( int i = 0; i < numberOfSpaces; i++ ) {
-                stringToAddBlankSpaces += " ";
-            }
+            appendBlankSpaces( result, numberOfSpaces );
         }
 
-        return stringToAddBlankSpaces;
+        return result.toString();
     }
 
     public static String fillStringAtRightWithBlankSpacesToDesiredLength( String stringToFillWithBlankSpaces, final int desiredLength ) {
@@ -95,12 +149,69 @@ public final class StringTools {
             return stringToFillWithBlankSpaces;
         }
 
-        int blankSpacesNumberToAdd = desiredLength - stringToFillWithBlankSpaces.length();
+        return fillStringAtRightWithBlankSpacesToDesiredLength( stringToFillWithBlankSpaces, desiredLength, new StringBuilder( desiredLength ) ).toString();
+    }
+
+    public static StringBuilder fillStringAtRightWithBlankSpacesToDesiredLength( final CharSequence charsToFillWithBlankSpaces, final int desiredLength,
+                                                                                 final StringBuilder target ) {
+        if ( desiredLength <= 0 ) {
+            throw new IllegalArgumentException( "Desired length must be greater than 0." );
+        }
+
+        if ( target == null ) {
+            throw new IllegalArgumentException( "The target builder can't be null." );
+        }
 
-        return StringTools.addBlankSpacesToString( stringToFillWithBlankSpaces, blankSpacesNumberToAdd, false, true );
+        final CharSequence chars = charsToFillWithBlankSpaces != null ? charsToFillWithBlankSpaces : "";
+
+        return appendBlankSpaces( target.append( chars ), desiredLength - chars.length() );
     }
 
-    public static String replacePartsInStringUsingMapAndDelimiters( String sourceString, final Map< String, String > replacementMap, final String leftDelimiter,
+    public static int fillStringAtRightWithBlankSpacesToDesiredLength( final CharSequence charsToFillWithBlankSpaces, final int desiredLength,
+                                                                       final char[] target, final int offset ) {
+        if ( desiredLength <= 0 ) {
+            throw new IllegalArgumentException( "Desired length must be greater than 0." );
+        }
+
+        final CharSequence chars = charsToFillWithBlankSpaces != null ? charsToFillWithBlankSpaces : "";
+        final int blankSpacesNumberToAdd = Math.max( desiredLength - chars.length(), 0 );
+
+        checkTargetCapacity( target, offset, blankSpacesNumberToAdd + chars.length() );
+
+        final int end = copyChars( chars, target, offset );
+
+        Arrays.fill( target, end, end + blankSpacesNumberToAdd, ' ' );
+
+        return end + blankSpacesNumberToAdd;
+    }
+
+    static void checkTargetCapacity( final char[] target, final int offset, final int length ) {
+        if ( target == null ) {
+            throw new IllegalArgumentException( "The target array can't be null." );
+        }
+
+        if ( offset < 0 || offset > target.length - length ) {
+            throw new IllegalArgumentException( "The target array doesn't have room for " + length + " characters at offset " + offset + "." );
+        }
+    }
+
+    static int copyChars( final CharSequence chars, final char[] target, final int offset ) {
+        final int length = chars.length();
+
+        if ( chars instanceof String ) {
+            ( ( String ) chars ).getChars( 0, length, target, offset );
+        } else if ( chars instanceof StringBuilder ) {
+            ( ( StringBuilder ) chars ).getChars( 0, length, target, offset );
+        } else {
+            for ( int i = 0; i < length; i++ ) {
+                target[ offset + i ] = chars.charAt( i );
+            }
+        }
+
+        return offset + length;
+    }
+
+    public static String replacePartsInStringUsingMapAndDelimiters( final String sourceString, final Map< String, String > replacementMap, final String leftDelimiter,
                                                                     final String rightDelimiter ) {
         if ( sourceString == null ) {
             throw new IllegalArgumentException( "String to have parts replaced can't be null." );
@@ -114,37 +225,258 @@ public final class StringTools {
             throw new IllegalArgumentException( "Replacement map can't be null or empty." );
         }
 
-        final Pattern pattern = Pattern.compile( leftDelimiter + ".+?" + rightDelimiter );
-        final Matcher matcher = pattern.matcher( sourceString );
+        return CompiledTemplate.compile( sourceString, leftDelimiter, rightDelimiter ).render( replacementMap );
+    }
 
-        final Map< String, String > foundStringsToReplaceMap = new HashMap<>();
+    public static boolean stringIsNullOrEmptyOrBlank( final String stringToTest ) {
+        return textIsNullOrEmptyOrBlank( stringToTest );
+    }
+
+    public static boolean stringIsNullOrEmpty( final String stringToTest ) {
+        return stringToTest == null || stringToTest.isEmpty();
+    }
+
+    public static boolean stringIsBlank( final String stringToTest ) {
+        return textIsBlank( stringToTest );
+    }
+
+    public static boolean textIsNullOrEmptyOrBlank( final CharSequence textToTest ) {
+        return textToTest == null || containsOnlyWhitespaces( textToTest );
+    }
+
+    public static boolean textIsBlank( final CharSequence textToTest ) {
+        return textToTest != null && textToTest.length() > 0 && containsOnlyWhitespaces( textToTest );
+    }
+
+    public static boolean textIsNumeric( final CharSequence textToTest ) {
+        if ( textToTest == null || textToTest.length() == 0 ) {
+            return false;
+        }
 
-        while ( matcher.find() ) {
-            final String stringToReplace = sourceString.substring( matcher.start(), matcher.end() );
-            final String replaceKey = stringToReplace.substring( leftDelimiter.length(), stringToReplace.length() - rightDelimiter.length() );
+        for ( int i = 0, length = textToTest.length(); i < length; i++ ) {
+            final char character = textToTest.charAt( i );
 
-            if ( replacementMap.containsKey( replaceKey ) ) {
-                foundStringsToReplaceMap.put( stringToReplace, replacementMap.get( replaceKey ) );
+            if ( character < '0' || character > '9' ) {
+                return false;
             }
         }
 
-        for ( String stringToReplace : foundStringsToReplaceMap.keySet() ) {
-            sourceString = sourceString.replace( stringToReplace, foundStringsToReplaceMap.get( stringToReplace ) );
+        return true;
+    }
+
+    public static boolean textIsAlphanumeric( final CharSequence textToTest ) {
+        if ( textToTest == null || textToTest.length() == 0 ) {
+            return false;
+        }
+
+        for ( int i = 0, length = textToTest.length(); i < length; i++ ) {
+            if ( !Character.isLetterOrDigit( textToTest.charAt( i ) ) ) {
+                return false;
+            }
         }
 
-        return sourceString;
+        return true;
     }
 
-    public static boolean stringIsNullOrEmptyOrBlank( final String stringToTest ) {
-        return stringIsNullOrEmpty( stringToTest ) || stringIsBlank( stringToTest );
+    public static boolean textIsAsciiOnly( final CharSequence textToTest ) {
+        if ( textToTest == null ) {
+            return false;
+        }
+
+        for ( int i = 0, length = textToTest.length(); i < length; i++ ) {
+            if ( textToTest.charAt( i ) > 0x7F ) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
-    public static boolean stringIsNullOrEmpty( final String stringToTest ) {
-        return stringToTest == null || stringToTest.isEmpty();
+    public static boolean textStartsWithIgnoringCase( final CharSequence textToTest, final CharSequence prefix ) {
+        if ( prefix == null ) {
+            throw new IllegalArgumentException( "The prefix can't be null." );
+        }
+
+        return textToTest != null && textToTest.length() >= prefix.length() && regionEqualsIgnoringCase( textToTest, 0, prefix );
     }
 
-    public static boolean stringIsBlank( final String stringToTest ) {
-        return stringToTest != null && stringToTest.matches( "\\s+" );
+    public static boolean textEndsWithIgnoringCase( final CharSequence textToTest, final CharSequence suffix ) {
+        if ( suffix == null ) {
+            throw new IllegalArgumentException( "The suffix can't be null." );
+        }
+
+        return textToTest != null && textToTest.length() >= suffix.length() && regionEqualsIgnoringCase( textToTest, textToTest.length() - suffix.length(),
+                suffix );
+    }
+
+    private static boolean containsOnlyWhitespaces( final CharSequence text ) {
+        for ( int i = 0, length = text.length(); i < length; i++ ) {
+            final char character = text.charAt( i );
+
+            if ( character != ' ' && ( character < '\t' || character > '\r' ) ) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean regionEqualsIgnoringCase( final CharSequence text, final int offset, final CharSequence region ) {
+        for ( int i = 0, length = region.length(); i < length; i++ ) {
+            final char textCharacter = text.charAt( offset + i );
+            final char regionCharacter = region.charAt( i );
+
+            if ( textCharacter != regionCharacter ) {
+                final char textUpperCase = Character.toUpperCase( textCharacter );
+                final char regionUpperCase = Character.toUpperCase( regionCharacter );
+
+                if ( textUpperCase != regionUpperCase && Character.toLowerCase( textUpperCase ) != Character.toLowerCase( regionUpperCase ) ) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    public static String[] splitStringUsingDelimiter( final String stringToSplit, final String delimiter ) {
+        if ( stringToSplit == null ) {
+            return null;
+        }
+
+        return new TextTokenizer( delimiter ).split( stringToSplit );
+    }
+
+    public static String foldToSearchKey( final CharSequence text ) {
+        if ( text == null ) {
+            return null;
+        }
+
+        return foldToSearchKey( text, new StringBuilder( text.length() ) ).toString();
+    }
+
+    public static StringBuilder foldToSearchKey( final CharSequence text, final StringBuilder target ) {
+        if ( target == null ) {
+            throw new IllegalArgumentException( "The target buffer can't be null." );
+        }
+
+        if ( text == null ) {
+            return target;
+        }
+
+        for ( int i = 0, length = text.length(); i < length; i++ ) {
+            final char character = text.charAt( i );
+
+            if ( character < SearchKeyFolding.LIMIT ) {
+                final char folded = SearchKeyFolding.FOLDING[ character ];
+
+                if ( folded != SearchKeyFolding.EXPANSION ) {
+                    target.append( folded );
+                } else {
+                    target.append( SearchKeyFolding.EXPANSIONS[ character ] );
+                }
+            } else if ( !isCombiningDiacriticalMark( character ) ) {
+                target.append( Character.toLowerCase( character ) );
+            }
+        }
+
+        return target;
+    }
+
+    public static String[] foldToSearchKeys( final String[] texts ) {
+        if ( texts == null ) {
+            return null;
+        }
+
+        final String[] searchKeys = new String[ texts.length ];
+        final StringBuilder buffer = new StringBuilder();
+
+        for ( int i = 0; i < texts.length; i++ ) {
+            final String text = texts[ i ];
+
+            if ( text == null ) {
+                continue;
+            }
+
+            buffer.setLength( 0 );
+            foldToSearchKey( text, buffer );
+
+            searchKeys[ i ] = contentEquals( buffer, text ) ? text : buffer.toString();
+        }
+
+        return searchKeys;
+    }
+
+    private static boolean isCombiningDiacriticalMark( final char character ) {
+        return character >= '\u0300' && character <= '\u036F';
+    }
+
+    private static boolean contentEquals( final CharSequence text, final String other ) {
+        if ( text.length() != other.length() ) {
+            return false;
+        }
+
+        for ( int i = 0, length = text.length(); i < length; i++ ) {
+            if ( text.charAt( i ) != other.charAt( i ) ) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static final class SearchKeyFolding {
+
+        private static final int LIMIT = 0x180;
+
+        private static final char EXPANSION = '\uFFFF';
+
+        private static final char[] FOLDING = new char[ LIMIT ];
+
+        private static final String[] EXPANSIONS = new String[ LIMIT ];
+
+        static {
+            buildFoldingTable();
+        }
+
+        private static void buildFoldingTable() {
+            for ( char character = 0; character < LIMIT; character++ ) {
+                final String decomposed = Normalizer.normalize( String.valueOf( character ), Normalizer.Form.NFD ).toLowerCase( Locale.ROOT );
+
+                FOLDING[ character ] = Character.isLetter( character ) && decomposed.charAt( 0 ) < 0x80 ? decomposed.charAt( 0 ) :
+                        Character.toLowerCase( character );
+            }
+
+            registerFolding( "\u00AA", "a" );
+            registerFolding( "\u00B5", "u" );
+            registerFolding( "\u00BA", "o" );
+            registerFolding( "\u00C6\u00E6", "ae" );
+            registerFolding( "\u00D0\u00F0\u0110\u0111", "d" );
+            registerFolding( "\u00D8\u00F8", "o" );
+            registerFolding( "\u00DE\u00FE", "th" );
+            registerFolding( "\u00DF", "ss" );
+            registerFolding( "\u0126\u0127", "h" );
+            registerFolding( "\u0131", "i" );
+            registerFolding( "\u0132\u0133", "ij" );
+            registerFolding( "\u0138", "k" );
+            registerFolding( "\u013F\u0140\u0141\u0142", "l" );
+            registerFolding( "\u0149\u014A\u014B", "n" );
+            registerFolding( "\u0152\u0153", "oe" );
+            registerFolding( "\u0166\u0167", "t" );
+            registerFolding( "\u017F", "s" );
+        }
+
+        private static void registerFolding( final String characters, final String searchKey ) {
+            for ( char character : characters.toCharArray() ) {
+                if ( searchKey.length() == 1 ) {
+                    FOLDING[ character ] = searchKey.charAt( 0 );
+                } else {
+                    FOLDING[ character ] = EXPANSION;
+                    EXPANSIONS[ character ] = searchKey;
+                }
+            }
+        }
+
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,182 @@
+package br.com.riteris.octopus.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class TextTokenizer {
+
+    private static final char NO_QUOTING = '\uFFFF';
+
+    private static final int MINIMUM_SPLIT_LENGTH = 4096;
+
+    private final char[] delimiter;
+
+    private final boolean delimiterOverlaps;
+
+    private final char quote;
+
+    private final char escape;
+
+    public TextTokenizer( final String delimiter ) {
+        this( delimiter, NO_QUOTING, NO_QUOTING );
+    }
+
+    public TextTokenizer( final String delimiter, final char quote ) {
+        this( delimiter, quote, quote );
+    }
+
+    public TextTokenizer( final String delimiter, final char quote, final char escape ) {
+        if ( delimiter == null || delimiter.isEmpty() ) {
+            throw new IllegalArgumentException( "The delimiter can't be null or empty." );
+        }
+
+        if ( quote != NO_QUOTING && ( delimiter.indexOf( quote ) >= 0 || delimiter.indexOf( escape ) >= 0 ) ) {
+            throw new IllegalArgumentException( "The delimiter can't contain the quote or escape characters." );
+        }
+
+        this.delimiter = delimiter.toCharArray();
+        this.delimiterOverlaps = hasBorder( delimiter );
+        this.quote = quote;
+        this.escape = escape;
+    }
+
+    private static boolean hasBorder( final String delimiter ) {
+        for ( int length = 1; length < delimiter.length(); length++ ) {
+            if ( delimiter.regionMatches( 0, delimiter, delimiter.length() - length, length ) ) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public TokenCursor tokenize( final CharSequence text ) {
+        if ( text == null ) {
+            throw new IllegalArgumentException( "The text can't be null." );
+        }
+
+        return new TokenCursor( this, text, 0, text.length() );
+    }
+
+    public String[] split( final CharSequence text ) {
+        final TokenCursor cursor = tokenize( text );
+        final List< String > tokens = new ArrayList<>();
+
+        while ( cursor.next() ) {
+            tokens.add( cursor.getToken().toString() );
+        }
+
+        return tokens.toArray( new String[ tokens.size() ] );
+    }
+
+    public Spliterator< String > spliterator( final CharSequence text ) {
+        if ( text == null ) {
+            throw new IllegalArgumentException( "The text can't be null." );
+        }
+
+        return new TokenSpliterator( text, 0, text.length() );
+    }
+
+    public Stream< String > stream( final CharSequence text, final boolean parallel ) {
+        return StreamSupport.stream( spliterator( text ), parallel );
+    }
+
+    boolean isQuoting() {
+        return this.quote != NO_QUOTING;
+    }
+
+    char getQuote() {
+        return this.quote;
+    }
+
+    char getEscape() {
+        return this.escape;
+    }
+
+    int getDelimiterLength() {
+        return this.delimiter.length;
+    }
+
+    boolean delimiterMatches( final CharSequence text, final int index, final int end ) {
+        if ( text.charAt( index ) != this.delimiter[ 0 ] ) {
+            return false;
+        }
+
+        if ( index + this.delimiter.length > end ) {
+            return false;
+        }
+
+        for ( int i = 1; i < this.delimiter.length; i++ ) {
+            if ( text.charAt( index + i ) != this.delimiter[ i ] ) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private final class TokenSpliterator implements Spliterator< String > {
+
+        private final CharSequence text;
+
+        private TokenCursor cursor;
+
+        private TokenSpliterator( final CharSequence text, final int start, final int end ) {
+            this.text = text;
+            this.cursor = new TokenCursor( TextTokenizer.this, text, start, end );
+        }
+
+        @Override
+        public boolean tryAdvance( final Consumer< ? super String > action ) {
+            if ( !this.cursor.next() ) {
+                return false;
+            }
+
+            action.accept( this.cursor.getToken().toString() );
+
+            return true;
+        }
+
+        @Override
+        public Spliterator< String > trySplit() {
+            if ( isQuoting() || delimiterOverlaps || !this.cursor.hasNext() ) {
+                return null;
+            }
+
+            final int start = this.cursor.getPosition();
+            final int end = this.cursor.getEnd();
+
+            if ( end - start < MINIMUM_SPLIT_LENGTH ) {
+                return null;
+            }
+
+            for ( int i = start + ( end - start ) / 2; i < end; i++ ) {
+                if ( delimiterMatches( this.text, i, end ) ) {
+                    final TokenSpliterator prefix = new TokenSpliterator( this.text, start, i );
+
+                    this.cursor = new TokenCursor( TextTokenizer.this, this.text, i + delimiter.length, end );
+
+                    return prefix;
+                }
+            }
+
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return this.cursor.hasNext() ? this.cursor.getEnd() - this.cursor.getPosition() + 1 : 0;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+
+    }
+
+}
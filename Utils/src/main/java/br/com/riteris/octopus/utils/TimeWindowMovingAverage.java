@@ -0,0 +1,135 @@
+package br.com.riteris.octopus.utils;
+
+import java.util.concurrent.TimeUnit;
+
+public final class TimeWindowMovingAverage {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 64;
+
+    private final long windowLength;
+
+    private final MovingWindowAccumulator accumulator;
+
+    private long[] timestamps;
+
+    private double[] window;
+
+    private int first;
+
+    private int size;
+
+    private long lastTimestamp = Long.MIN_VALUE;
+
+    public TimeWindowMovingAverage( final long windowLength, final TimeUnit unit ) {
+        this( windowLength, unit, new MovingWindowAccumulator() );
+    }
+
+    public TimeWindowMovingAverage( final long windowLength, final TimeUnit unit, final double peakPercentual, final boolean substitutePeakWithAvg ) {
+        this( windowLength, unit, new MovingWindowAccumulator( peakPercentual, substitutePeakWithAvg ) );
+    }
+
+    private TimeWindowMovingAverage( final long windowLength, final TimeUnit unit, final MovingWindowAccumulator accumulator ) {
+        if ( windowLength <= 0 ) {
+            throw new IllegalArgumentException( "The window length must be greater than 0." );
+        }
+
+        if ( unit == null ) {
+            throw new IllegalArgumentException( "The time unit can't be null." );
+        }
+
+        if ( unit.toMillis( windowLength ) < 1 ) {
+            throw new IllegalArgumentException( "The window length must be at least 1 millisecond." );
+        }
+
+        this.windowLength = unit.toMillis( windowLength );
+        this.accumulator = accumulator;
+        this.timestamps = new long[ DEFAULT_INITIAL_CAPACITY ];
+        this.window = new double[ DEFAULT_INITIAL_CAPACITY ];
+    }
+
+    public boolean add( final long timestampMillis, final double number ) {
+        advanceTo( timestampMillis );
+
+        final double stored = this.accumulator.admit( number );
+
+        if ( this.size == this.window.length ) {
+            grow();
+        }
+
+        final int index = ( this.first + this.size ) % this.window.length;
+
+        this.timestamps[ index ] = timestampMillis;
+        this.window[ index ] = stored;
+        this.size++;
+        this.accumulator.add( stored );
+
+        return stored == number;
+    }
+
+    public void advanceTo( final long timestampMillis ) {
+        if ( timestampMillis < this.lastTimestamp ) {
+            throw new IllegalArgumentException( "The timestamp " + timestampMillis + " is older than the last one (" + this.lastTimestamp + ")." );
+        }
+
+        this.lastTimestamp = timestampMillis;
+
+        final long windowStart = timestampMillis - this.windowLength;
+
+        while ( this.size > 0 && this.timestamps[ this.first ] <= windowStart ) {
+            this.accumulator.remove( this.window[ this.first ] );
+
+            if ( ++this.first == this.window.length ) {
+                this.first = 0;
+            }
+
+            this.size--;
+        }
+    }
+
+    public long getWindowLengthMillis() {
+        return this.windowLength;
+    }
+
+    public int getSampleCount() {
+        return this.size;
+    }
+
+    public long getRetainedCount() {
+        return this.accumulator.getRetainedCount();
+    }
+
+    public long getTotalSuppressedCount() {
+        return this.accumulator.getTotalSuppressedCount();
+    }
+
+    public double getAvg() {
+        return this.accumulator.getAvg();
+    }
+
+    public Number getAvg( final int scale ) {
+        return this.accumulator.getAvg( scale );
+    }
+
+    public void reset() {
+        this.accumulator.clear();
+        this.first = 0;
+        this.size = 0;
+        this.lastTimestamp = Long.MIN_VALUE;
+    }
+
+    private void grow() {
+        final long[] timestamps = new long[ this.window.length * 2 ];
+        final double[] window = new double[ this.window.length * 2 ];
+        final int firstPart = this.window.length - this.first;
+
+        System.arraycopy( this.timestamps, this.first, timestamps, 0, firstPart );
+        System.arraycopy( this.timestamps, 0, timestamps, firstPart, this.first );
+        System.arraycopy( this.window, this.first, window, 0, firstPart );
+        System.arraycopy( this.window, 0, window, firstPart, this.first );
+
+        this.timestamps = timestamps;
+        this.window = window;
+        this.first = 0;
+    }
+
+}
@@ -0,0 +1,210 @@
+package br.com.riteris.octopus.utils;
+
+public final class TokenCursor {
+
+    private final TextTokenizer tokenizer;
+
+    private final CharSequence text;
+
+    private final int end;
+
+    private final StringBuilder unescaped = new StringBuilder();
+
+    private final TokenView token = new TokenView();
+
+    private int position;
+
+    private boolean finished;
+
+    private int tokenIndex = -1;
+
+    private boolean copying;
+
+    private int runStart;
+
+    TokenCursor( final TextTokenizer tokenizer, final CharSequence text, final int start, final int end ) {
+        this.tokenizer = tokenizer;
+        this.text = text;
+        this.position = start;
+        this.end = end;
+    }
+
+    public boolean next() {
+        if ( this.finished ) {
+            return false;
+        }
+
+        int i = this.position;
+
+        this.copying = false;
+        this.runStart = i;
+
+        if ( this.tokenizer.isQuoting() && i < this.end && this.text.charAt( i ) == this.tokenizer.getQuote() ) {
+            final int closingQuote = skipQuotedSection( i );
+
+            i = closingQuote + 1;
+
+            if ( i >= this.end || this.tokenizer.delimiterMatches( this.text, i, this.end ) ) {
+                finishToken( closingQuote );
+            } else {
+                flushRun( closingQuote );
+                this.runStart = i;
+
+                i = skipUnquotedSection( i );
+            }
+        } else {
+            i = skipUnquotedSection( i );
+        }
+
+        if ( i < this.end ) {
+            this.position = i + this.tokenizer.getDelimiterLength();
+        } else {
+            this.finished = true;
+        }
+
+        this.tokenIndex++;
+
+        return true;
+    }
+
+    public boolean hasNext() {
+        return !this.finished;
+    }
+
+    public CharSequence getToken() {
+        if ( this.tokenIndex < 0 ) {
+            throw new IllegalStateException( "The cursor isn't positioned on a token." );
+        }
+
+        return this.token;
+    }
+
+    public int getTokenIndex() {
+        return this.tokenIndex;
+    }
+
+    int getPosition() {
+        return this.position;
+    }
+
+    int getEnd() {
+        return this.end;
+    }
+
+    private int skipQuotedSection( final int quoteIndex ) {
+        final char quote = this.tokenizer.getQuote();
+        final char escape = this.tokenizer.getEscape();
+
+        int i = quoteIndex + 1;
+
+        this.runStart = i;
+
+        while ( true ) {
+            if ( i >= this.end ) {
+                throw new IllegalArgumentException( "The quoted token starting at index " + quoteIndex + " isn't terminated." );
+            }
+
+            final char character = this.text.charAt( i );
+
+            if ( character == quote && ( escape != quote || i + 1 >= this.end || this.text.charAt( i + 1 ) != quote ) ) {
+                break;
+            }
+
+            if ( character == escape && i + 1 < this.end ) {
+                flushRun( i );
+                this.unescaped.append( this.text.charAt( i + 1 ) );
+
+                i += 2;
+                this.runStart = i;
+            } else {
+                i++;
+            }
+        }
+
+        return i;
+    }
+
+    private int skipUnquotedSection( int i ) {
+        final char escape = this.tokenizer.getEscape();
+        final boolean escaping = this.tokenizer.isQuoting() && escape != this.tokenizer.getQuote();
+
+        while ( i < this.end && !this.tokenizer.delimiterMatches( this.text, i, this.end ) ) {
+            if ( escaping && this.text.charAt( i ) == escape && i + 1 < this.end ) {
+                flushRun( i );
+                this.unescaped.append( this.text.charAt( i + 1 ) );
+
+                i += 2;
+                this.runStart = i;
+            } else {
+                i++;
+            }
+        }
+
+        finishToken( i );
+
+        return i;
+    }
+
+    private void flushRun( final int runEnd ) {
+        if ( !this.copying ) {
+            this.copying = true;
+            this.unescaped.setLength( 0 );
+        }
+
+        this.unescaped.append( this.text, this.runStart, runEnd );
+    }
+
+    private void finishToken( final int tokenEnd ) {
+        if ( this.copying ) {
+            this.unescaped.append( this.text, this.runStart, tokenEnd );
+            this.token.moveTo( this.unescaped, 0, this.unescaped.length() );
+        } else {
+            this.token.moveTo( this.text, this.runStart, tokenEnd );
+        }
+    }
+
+    private static final class TokenView implements CharSequence {
+
+        private CharSequence source;
+
+        private int start;
+
+        private int end;
+
+        private void moveTo( final CharSequence source, final int start, final int end ) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return this.end - this.start;
+        }
+
+        @Override
+        public char charAt( final int index ) {
+            if ( index < 0 || index >= length() ) {
+                throw new IndexOutOfBoundsException( "Index " + index + " is out of the token bounds." );
+            }
+
+            return this.source.charAt( this.start + index );
+        }
+
+        @Override
+        public CharSequence subSequence( final int start, final int end ) {
+            if ( start < 0 || end > length() || start > end ) {
+                throw new IndexOutOfBoundsException( "Range [" + start + ", " + end + ") is out of the token bounds." );
+            }
+
+            return this.source.subSequence( this.start + start, this.start + end );
+        }
+
+        @Override
+        public String toString() {
+            return this.source.subSequence( this.start, this.end ).toString();
+        }
+
+    }
+
+}
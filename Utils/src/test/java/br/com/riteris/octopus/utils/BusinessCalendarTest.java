@@ -0,0 +1,169 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BusinessCalendarTest {
+
+    private final List< LocalDate > holidays = Arrays.asList( LocalDate.of( 2016, 1, 1 ), LocalDate.of( 2016, 2, 8 ), LocalDate.of( 2016, 2, 9 ),
+            LocalDate.of( 2016, 12, 25 ), LocalDate.of( 2017, 1, 2 ) );
+
+    private final BusinessCalendar calendar = new BusinessCalendar( holidays );
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingWithNullHolidays() {
+        new BusinessCalendar( null );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingWithWholeWeekAsWeekend() {
+        new BusinessCalendar( EnumSet.allOf( DayOfWeek.class ), Collections.emptyList() );
+    }
+
+    @Test
+    public final void testIsBusinessDay() {
+        assertFalse( calendar.isBusinessDay( LocalDate.of( 2016, 1, 1 ) ) );
+        assertFalse( calendar.isBusinessDay( LocalDate.of( 2016, 1, 2 ) ) );
+        assertTrue( calendar.isBusinessDay( LocalDate.of( 2016, 1, 4 ) ) );
+        assertFalse( calendar.isBusinessDay( LocalDate.of( 2016, 2, 9 ) ) );
+        assertTrue( calendar.isBusinessDay( LocalDate.of( 1950, 3, 1 ) ) );
+        assertTrue( calendar.isBusinessDay( LocalDate.of( 2150, 3, 2 ) ) );
+    }
+
+    @Test
+    public final void testBusinessDayArithmetic() {
+        assertEquals( LocalDate.of( 2016, 1, 4 ), calendar.nextBusinessDay( LocalDate.of( 2015, 12, 31 ) ) );
+        assertEquals( LocalDate.of( 2015, 12, 31 ), calendar.previousBusinessDay( LocalDate.of( 2016, 1, 4 ) ) );
+        assertEquals( LocalDate.of( 2016, 2, 10 ), calendar.addBusinessDays( LocalDate.of( 2016, 2, 5 ), 1 ) );
+        assertEquals( LocalDate.of( 2016, 2, 5 ), calendar.addBusinessDays( LocalDate.of( 2016, 2, 9 ), -1 ) );
+        assertEquals( LocalDate.of( 2016, 2, 9 ), calendar.addBusinessDays( LocalDate.of( 2016, 2, 9 ), 0 ) );
+        assertEquals( 2, calendar.businessDaysBetween( LocalDate.of( 2016, 2, 5 ), LocalDate.of( 2016, 2, 11 ) ) );
+        assertEquals( -2, calendar.businessDaysBetween( LocalDate.of( 2016, 2, 11 ), LocalDate.of( 2016, 2, 5 ) ) );
+        assertEquals( LocalDate.of( 2016, 1, 4 ), calendar.getFirstBusinessDayOfMonth( LocalDate.of( 2016, 1, 20 ) ) );
+        assertEquals( LocalDate.of( 2016, 4, 29 ), calendar.getLastBusinessDayOfMonth( LocalDate.of( 2016, 4, 10 ) ) );
+    }
+
+    @Test
+    public final void testArithmeticMatchesDayByDayWalk() {
+        final Random random = new Random( 3 );
+        final BusinessCalendar fridayWeekend = new BusinessCalendar( EnumSet.of( DayOfWeek.FRIDAY ), holidays );
+
+        for ( BusinessCalendar tested : new BusinessCalendar[]{ calendar, fridayWeekend } ) {
+            for ( int i = 0; i < 200; i++ ) {
+                final LocalDate date = LocalDate.of( 2016, 1, 1 ).plusDays( random.nextInt( 3000 ) - 1500 );
+                final int businessDays = random.nextInt( 1200 ) - 600;
+
+                LocalDate expected = date;
+
+                for ( int remaining = Math.abs( businessDays ); remaining > 0; ) {
+                    expected = expected.plusDays( businessDays > 0 ? 1 : -1 );
+
+                    if ( tested.isBusinessDay( expected ) ) {
+                        remaining--;
+                    }
+                }
+
+                assertEquals( expected, tested.addBusinessDays( date, businessDays ) );
+
+                if ( tested.isBusinessDay( date ) ) {
+                    assertEquals( businessDays, tested.businessDaysBetween( date, expected ) );
+                }
+            }
+        }
+    }
+
+    @Test
+    public final void testArithmeticBeyondTableSpan() {
+        final LocalDate start = LocalDate.of( 2016, 1, 4 );
+        final LocalDate end = LocalDate.of( 3016, 1, 4 );
+        long chunked = 0;
+
+        for ( LocalDate from = start; from.isBefore( end ); from = from.plusYears( 100 ) ) {
+            chunked += calendar.businessDaysBetween( from, from.plusYears( 100 ) );
+        }
+
+        assertEquals( chunked, calendar.businessDaysBetween( start, end ) );
+        assertEquals( -chunked, calendar.businessDaysBetween( end, start ) );
+
+        final LocalDate far = calendar.addBusinessDays( start, Integer.MAX_VALUE );
+
+        assertTrue( calendar.isBusinessDay( far ) );
+        assertEquals( Integer.MAX_VALUE, calendar.businessDaysBetween( start, far ) );
+        assertEquals( start, calendar.addBusinessDays( far, -Integer.MAX_VALUE ) );
+        assertEquals( LocalDate.of( 2016, 2, 10 ), calendar.addBusinessDays( calendar.addBusinessDays( LocalDate.of( 2016, 2, 5 ), 3000000 ), -2999999 ) );
+    }
+
+    @Test
+    public final void testArithmeticAtDateRangeLimits() {
+        final LocalDate middle = LocalDate.of( 2016, 1, 4 );
+
+        assertTrue( calendar.isBusinessDay( LocalDate.MAX ) );
+        assertFalse( calendar.isBusinessDay( LocalDate.MAX.minusDays( 6 ) ) );
+        assertEquals( LocalDate.MAX.minusDays( 1 ), calendar.previousBusinessDay( LocalDate.MAX ) );
+        assertEquals( LocalDate.MIN.plusDays( 1 ), calendar.nextBusinessDay( LocalDate.MIN ) );
+        assertEquals( 5, calendar.businessDaysBetween( LocalDate.MAX.minusWeeks( 1 ), LocalDate.MAX ) );
+        assertEquals( LocalDate.MAX, calendar.addBusinessDays( LocalDate.MAX.minusWeeks( 1 ), 5 ) );
+        assertEquals( calendar.businessDaysBetween( LocalDate.MIN, middle ) + calendar.businessDaysBetween( middle, LocalDate.MAX ),
+                calendar.businessDaysBetween( LocalDate.MIN, LocalDate.MAX ) );
+
+        try {
+            calendar.addBusinessDays( LocalDate.MAX.minusWeeks( 1 ), 6 );
+            fail( "A date after the supported range was returned." );
+        } catch ( IllegalArgumentException e ) {
+            assertTrue( e.getMessage().contains( "range" ) );
+        }
+
+        try {
+            calendar.addBusinessDays( LocalDate.MIN, -1 );
+            fail( "A date before the supported range was returned." );
+        } catch ( IllegalArgumentException e ) {
+            assertTrue( e.getMessage().contains( "range" ) );
+        }
+    }
+
+    @Test
+    public final void testLoadingFromFile() throws IOException {
+        final Path file = Files.createTempFile( "holidays", ".txt" );
+
+        try {
+            Files.write( file, Arrays.asList( "# national holidays", "2016-01-01", "", "2016-02-08 # carnival", "2016-02-09" ), StandardCharsets.UTF_8 );
+
+            final BusinessCalendar loaded = BusinessCalendar.load( file );
+
+            assertSame( loaded, BusinessCalendar.load( file ) );
+            assertNotSame( loaded, BusinessCalendar.load( file, EnumSet.of( DayOfWeek.SUNDAY ) ) );
+            assertFalse( loaded.isBusinessDay( LocalDate.of( 2016, 2, 8 ) ) );
+            assertEquals( LocalDate.of( 2016, 2, 10 ), loaded.nextBusinessDay( LocalDate.of( 2016, 2, 5 ) ) );
+        } finally {
+            BusinessCalendar.clearLoadedCalendars();
+            Files.delete( file );
+        }
+    }
+
+    @Test( expected = IOException.class )
+    public final void testLoadingInvalidFile() throws IOException {
+        final Path file = Files.createTempFile( "holidays", ".txt" );
+
+        try {
+            Files.write( file, Collections.singletonList( "2016-13-01" ), StandardCharsets.UTF_8 );
+
+            BusinessCalendar.load( file );
+        } finally {
+            Files.delete( file );
+        }
+    }
+
+}
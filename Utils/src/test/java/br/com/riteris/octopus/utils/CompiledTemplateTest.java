@@ -0,0 +1,78 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static br.com.riteris.octopus.utils.CompiledTemplate.compile;
+import static org.junit.Assert.*;
+
+public class CompiledTemplateTest {
+
+    private final Map< String, String > replacementMap = new HashMap<>();
+
+    @Before
+    public void setUp() throws Exception {
+        replacementMap.put( "dog", "cat" );
+        replacementMap.put( "mouse", "pig" );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCompileWithNullTemplate() {
+        compile( null, "{{", "}}" );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCompileWithBlankLeftDelimiter() {
+        compile( "", " ", "}}" );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCompileWithNullRightDelimiter() {
+        compile( "", "{{", null );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testRenderWithNullMap() {
+        compile( "{{dog}}", "{{", "}}" ).render( null );
+    }
+
+    @Test
+    public final void testCompileUsesCache() {
+        final CompiledTemplate template = compile( "The {{dog}} and the {{mouse}}.", "{{", "}}" );
+
+        assertSame( template, compile( "The {{dog}} and the {{mouse}}.", "{{", "}}" ) );
+        assertNotSame( template, compile( "The {{dog}} and the {{mouse}}.", "{{", "}" ) );
+        assertEquals( 2, template.getPlaceholdersCount() );
+    }
+
+    @Test
+    public final void testRender() {
+        assertEquals( "", compile( "", "{{", "}}" ).render( replacementMap ) );
+        assertEquals( "No placeholders.", compile( "No placeholders.", "{{", "}}" ).render( replacementMap ) );
+        assertEquals( "The cat and the pig.", compile( "The {{dog}} and the {{mouse}}.", "{{", "}}" ).render( replacementMap ) );
+        assertEquals( "catcatpig", compile( "{{dog}}{{dog}}{{mouse}}", "{{", "}}" ).render( replacementMap ) );
+        assertEquals( "The {{cow}} and the cat.", compile( "The {{cow}} and the {{dog}}.", "{{", "}}" ).render( replacementMap ) );
+        assertEquals( "Empty {{}} key.", compile( "Empty {{}} key.", "{{", "}}" ).render( replacementMap ) );
+        assertEquals( "Unclosed {{dog", compile( "Unclosed {{dog", "{{", "}}" ).render( replacementMap ) );
+    }
+
+    @Test
+    public final void testRenderDoesNotMatchAcrossLines() {
+        assertEquals( "The {{dog\r\n}} and the pig.", compile( "The {{dog\r\n}} and the {{mouse}}.", "{{", "}}" ).render( replacementMap ) );
+        assertEquals( "The {{\ncat.", compile( "The {{\n{{dog}}.", "{{", "}}" ).render( replacementMap ) );
+    }
+
+    @Test
+    public final void testRenderMatchesShortestPlaceholder() {
+        final Map< String, String > map = new HashMap<>();
+        map.put( "a {{b", "x" );
+        map.put( "}", "y" );
+
+        assertEquals( "x}}", compile( "{{a {{b}}}}", "{{", "}}" ).render( map ) );
+        assertEquals( "y", compile( "{{}}}", "{{", "}}" ).render( map ) );
+    }
+
+}
@@ -0,0 +1,116 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CountWindowMovingAverageTest {
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingWindowWithInvalidSize() {
+        new CountWindowMovingAverage( 0 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingWindowWithNegativePeakPercentual() {
+        new CountWindowMovingAverage( 3, -1, false );
+    }
+
+    @Test( expected = IllegalStateException.class )
+    public final void testAvgOfEmptyWindow() {
+        new CountWindowMovingAverage( 3 ).getAvg( 2 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAddingInfiniteNumber() {
+        new CountWindowMovingAverage( 3 ).add( Double.POSITIVE_INFINITY );
+    }
+
+    @Test
+    public final void testMovingAvg() {
+        final CountWindowMovingAverage average = new CountWindowMovingAverage( 3 );
+
+        assertTrue( Double.isNaN( average.getAvg() ) );
+
+        average.add( 1 );
+        average.add( 2 );
+
+        assertFalse( average.isFull() );
+        assertEquals( new BigDecimal( "1.50" ), average.getAvg( 2 ) );
+
+        average.add( 3 );
+        average.add( 10 );
+
+        assertTrue( average.isFull() );
+        assertEquals( 3, average.getSampleCount() );
+        assertEquals( 5, average.getAvg(), 0 );
+
+        average.reset();
+        average.add( 4 );
+
+        assertEquals( 4, average.getAvg(), 0 );
+        assertEquals( 1, average.getSampleCount() );
+    }
+
+    @Test
+    public final void testMovingAvgMatchesRecomputedWindows() {
+        final Random random = new Random( 21 );
+        final double[] samples = new double[ 5000 ];
+        final CountWindowMovingAverage average = new CountWindowMovingAverage( 50 );
+
+        for ( int i = 0; i < samples.length; i++ ) {
+            samples[ i ] = random.nextInt( 100000 ) / 100.0;
+
+            average.add( samples[ i ] );
+
+            final double[] window = Arrays.copyOfRange( samples, Math.max( 0, i - 49 ), i + 1 );
+
+            assertEquals( NumberTools.avgWithScale( window, 2 ), average.getAvg( 2 ) );
+        }
+    }
+
+    @Test
+    public final void testPeakRemoval() {
+        final CountWindowMovingAverage average = new CountWindowMovingAverage( 4, 50, false );
+
+        assertTrue( average.add( 10 ) );
+        assertTrue( average.add( 12 ) );
+        assertFalse( average.add( 100 ) );
+        assertEquals( 11, average.getAvg(), 0 );
+        assertEquals( 2, average.getRetainedCount() );
+        assertEquals( 1, average.getTotalSuppressedCount() );
+        assertEquals( 3, average.getSampleCount() );
+    }
+
+    @Test
+    public final void testPeakSubstitution() {
+        final CountWindowMovingAverage average = new CountWindowMovingAverage( 4, 50, true );
+
+        average.add( 10 );
+        average.add( 12 );
+
+        assertFalse( average.add( 100 ) );
+        assertEquals( 3, average.getRetainedCount() );
+        assertEquals( 11, average.getAvg(), 1e-12 );
+    }
+
+    @Test
+    public final void testLevelShiftIsAcceptedOnceWindowHoldsOnlyPeaks() {
+        final CountWindowMovingAverage average = new CountWindowMovingAverage( 3, 10, false );
+
+        average.add( 10 );
+        average.add( 10 );
+        average.add( 10 );
+
+        assertFalse( average.add( 50 ) );
+        assertFalse( average.add( 50 ) );
+        assertFalse( average.add( 50 ) );
+        assertTrue( average.add( 50 ) );
+        assertEquals( 50, average.getAvg(), 0 );
+    }
+
+}
@@ -0,0 +1,120 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class DateIntervalIndexTest {
+
+    private final LocalDate firstJanuary = LocalDate.of( 2016, 1, 1 );
+
+    private final LocalDate middleJanuary = LocalDate.of( 2016, 1, 15 );
+
+    private final LocalDate endJanuary = LocalDate.of( 2016, 1, 31 );
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingWithDifferentLengths() {
+        new DateIntervalIndex( new long[ 2 ], new long[ 1 ], true );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingWithNullDate() {
+        new DateIntervalIndex( new LocalDate[]{ firstJanuary }, new LocalDate[]{ null }, true );
+    }
+
+    @Test
+    public final void testInclusiveAndExclusiveSemantics() {
+        final LocalDate[] starts = { firstJanuary, firstJanuary, middleJanuary };
+        final LocalDate[] ends = { endJanuary, middleJanuary, middleJanuary };
+
+        final DateIntervalIndex inclusive = new DateIntervalIndex( starts, ends, true );
+        final DateIntervalIndex exclusive = new DateIntervalIndex( starts, ends, false );
+
+        assertEquals( 3, exclusive.getPeriodCount() );
+        assertArrayEquals( new int[]{ 0, 1, 2 }, sorted( inclusive.findContaining( middleJanuary ) ) );
+        assertArrayEquals( new int[]{ 0 }, sorted( exclusive.findContaining( middleJanuary ) ) );
+        assertArrayEquals( new int[ 0 ], exclusive.findContaining( firstJanuary ) );
+        assertTrue( inclusive.isContainedByAny( endJanuary ) );
+        assertFalse( exclusive.isContainedByAny( endJanuary ) );
+        assertFalse( inclusive.isContainedByAny( endJanuary.plusDays( 1 ) ) );
+        assertTrue( inclusive.overlapsAny( endJanuary, endJanuary.plusDays( 3 ) ) );
+        assertFalse( exclusive.overlapsAny( endJanuary, endJanuary.plusDays( 3 ) ) );
+        assertArrayEquals( new int[]{ 0 }, inclusive.findOverlapping( middleJanuary.plusDays( 1 ), endJanuary.plusDays( 9 ) ) );
+        assertArrayEquals( new int[]{ 0, 1, 2 }, sorted( inclusive.findOverlapping( middleJanuary, middleJanuary ) ) );
+    }
+
+    @Test
+    public final void testQueriesMatchDateTools() {
+        final Random random = new Random( 29 );
+        final int periods = 2000;
+        final long[] starts = new long[ periods ];
+        final long[] ends = new long[ periods ];
+
+        for ( int i = 0; i < periods; i++ ) {
+            starts[ i ] = random.nextInt( 3650 );
+            ends[ i ] = starts[ i ] + random.nextInt( 120 ) - 5;
+        }
+
+        for ( boolean inclusive : new boolean[]{ true, false } ) {
+            final DateIntervalIndex index = new DateIntervalIndex( starts, ends, inclusive );
+            final long[] days = new long[ 300 ];
+
+            for ( int i = 0; i < days.length; i++ ) {
+                days[ i ] = random.nextInt( 3800 ) - 50;
+            }
+
+            final int[][] batch = index.findContainingAll( days );
+            final int[] counts = index.countContainingAll( days );
+
+            for ( int query = 0; query < days.length; query++ ) {
+                final int[] expected = containing( starts, ends, days[ query ], inclusive );
+
+                assertArrayEquals( expected, sorted( index.findContaining( days[ query ] ) ) );
+                assertArrayEquals( expected, sorted( batch[ query ] ) );
+                assertEquals( expected.length, counts[ query ] );
+                assertEquals( expected.length > 0, index.isContainedByAny( days[ query ] ) );
+
+                final long rangeEnd = days[ query ] + random.nextInt( 30 );
+                final int[] overlapping = overlapping( starts, ends, days[ query ], rangeEnd, inclusive );
+
+                assertArrayEquals( overlapping, sorted( index.findOverlapping( days[ query ], rangeEnd ) ) );
+                assertEquals( overlapping.length > 0, index.overlapsAny( days[ query ], rangeEnd ) );
+            }
+        }
+    }
+
+    private static int[] containing( final long[] starts, final long[] ends, final long day, final boolean inclusive ) {
+        return overlapping( starts, ends, day, day, inclusive );
+    }
+
+    private static int[] overlapping( final long[] starts, final long[] ends, final long rangeStart, final long rangeEnd, final boolean inclusive ) {
+        final int[] matches = new int[ starts.length ];
+        int size = 0;
+
+        for ( int period = 0; period < starts.length; period++ ) {
+            for ( long day = rangeStart; day <= rangeEnd; day++ ) {
+                if ( inclusive ? DateTools.isDateBetweenPeriodInclusive( day, starts[ period ], ends[ period ] )
+                        : DateTools.isDateBetweenPeriodExclusive( day, starts[ period ], ends[ period ] ) ) {
+                    matches[ size++ ] = period;
+
+                    break;
+                }
+            }
+        }
+
+        return Arrays.copyOf( matches, size );
+    }
+
+    private static int[] sorted( final int[] values ) {
+        final int[] copy = values.clone();
+
+        Arrays.sort( copy );
+
+        return copy;
+    }
+
+}
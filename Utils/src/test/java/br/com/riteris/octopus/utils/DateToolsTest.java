@@ -3,6 +3,8 @@ package br.com.riteris.octopus.utils;
 import org.junit.Test;
 
 import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Random;
 
 import static br.com.riteris.octopus.utils.DateTools.*;
 import static org.junit.Assert.*;
@@ -224,4 +226,107 @@ public class DateToolsTest {
         assertFalse( isDateBetweenPeriodExclusive( endJanuary, firstJanuary, middleJanuary ) );
     }
 
+    @Test
+    public final void testEpochDayComparisons() {
+        final long first = firstJanuary.toEpochDay();
+        final long middle = middleJanuary.toEpochDay();
+        final long end = endJanuary.toEpochDay();
+
+        assertTrue( isSameDateExcludingTimeInfo( first, first ) );
+        assertFalse( isSameDateExcludingTimeInfo( first, middle ) );
+        assertTrue( dateIsBeforeExcludingTimeInfo( first, middle ) );
+        assertFalse( dateIsBeforeExcludingTimeInfo( middle, middle ) );
+        assertTrue( dateIsAfterExcludingTimeInfo( end, middle ) );
+        assertTrue( dateIsEqualOrAfterExcludingTimeInfo( middle, middle ) );
+        assertTrue( dateIsEqualOrBeforeExcludingTimeInfo( middle, end ) );
+        assertTrue( isDateBetweenPeriodInclusive( first, first, end ) );
+        assertFalse( isDateBetweenPeriodExclusive( first, first, end ) );
+        assertTrue( isDateBetweenPeriodExclusive( middle, first, end ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testToEpochDaysWithNullDate() {
+        toEpochDays( new LocalDate[]{ firstJanuary, null } );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testFilterBetweenInclusiveWithNullArray() {
+        filterBetweenInclusive( null, 0, 1 );
+    }
+
+    @Test
+    public final void testFilterBetween() {
+        final long[] days = toEpochDays( new LocalDate[]{ firstJanuary, middleJanuary, endJanuary, endJanuary.plusDays( 1 ) } );
+
+        final BitSet inclusive = filterBetweenInclusive( days, firstJanuary.toEpochDay(), endJanuary.toEpochDay() );
+        final BitSet exclusive = filterBetweenExclusive( days, firstJanuary.toEpochDay(), endJanuary.toEpochDay() );
+
+        assertEquals( 3, inclusive.cardinality() );
+        assertFalse( inclusive.get( 3 ) );
+        assertEquals( 1, exclusive.cardinality() );
+        assertTrue( exclusive.get( 1 ) );
+        assertTrue( filterBetweenExclusive( days, Long.MAX_VALUE, Long.MAX_VALUE ).isEmpty() );
+        assertEquals( 3, countBetweenInclusive( days, firstJanuary.toEpochDay(), endJanuary.toEpochDay() ) );
+    }
+
+    @Test
+    public final void testFilterBetweenMatchesLocalDateChecks() {
+        final Random random = new Random( 17 );
+        final LocalDate[] dates = new LocalDate[ 1000 ];
+
+        for ( int i = 0; i < dates.length; i++ ) {
+            dates[ i ] = firstJanuary.plusDays( random.nextInt( 60 ) - 15 );
+        }
+
+        final BitSet inclusive = filterBetweenInclusive( toEpochDays( dates ), firstJanuary.toEpochDay(), endJanuary.toEpochDay() );
+        final BitSet exclusive = filterBetweenExclusive( toEpochDays( dates ), firstJanuary.toEpochDay(), endJanuary.toEpochDay() );
+
+        for ( int i = 0; i < dates.length; i++ ) {
+            assertEquals( isDateBetweenPeriodInclusive( dates[ i ], firstJanuary, endJanuary ), inclusive.get( i ) );
+            assertEquals( isDateBetweenPeriodExclusive( dates[ i ], firstJanuary, endJanuary ), exclusive.get( i ) );
+        }
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testMonthStartEpochDayWithInvalidMonth() {
+        getMonthStartEpochDay( 2016, 13 );
+    }
+
+    @Test
+    public final void testCalendarLookupsMatchJavaTime() {
+        for ( LocalDate date = LocalDate.of( 1890, 1, 1 ); date.getYear() <= 2210; date = date.plusDays( 1 ) ) {
+            final long epochDay = date.toEpochDay();
+
+            assertEquals( date.withDayOfMonth( 1 ).toEpochDay(), getMonthStartEpochDay( epochDay ) );
+            assertEquals( date.withDayOfMonth( date.lengthOfMonth() ).toEpochDay(), getMonthEndEpochDay( epochDay ) );
+            assertEquals( date.getDayOfWeek(), getDayOfWeek( epochDay ) );
+
+            if ( date.getDayOfMonth() == 1 ) {
+                assertEquals( epochDay, getMonthStartEpochDay( date.getYear(), date.getMonthValue() ) );
+                assertEquals( getMonthEndEpochDay( epochDay ), getMonthEndEpochDay( date.getYear(), date.getMonthValue() ) );
+                assertEquals( date.lengthOfYear(), getTotalYearDays( date.getYear() ) );
+                assertEquals( date.plusMonths( 1 ).minusDays( 1 ), getDateAtLastDayOfActualDateMonth( date ) );
+            }
+        }
+    }
+
+    @Test
+    public final void testCalendarTableRange() {
+        final CalendarTable table = new CalendarTable( 2000, 2001 );
+
+        assertTrue( table.coversYear( 2001 ) );
+        assertFalse( table.coversYear( 2002 ) );
+        assertTrue( table.coversEpochDay( LocalDate.of( 2001, 12, 31 ).toEpochDay() ) );
+        assertFalse( table.coversEpochDay( LocalDate.of( 2002, 1, 1 ).toEpochDay() ) );
+        assertEquals( 366, table.getYearDays( 2000 ) );
+        assertEquals( LocalDate.of( 2000, 2, 29 ).toEpochDay(), table.getMonthEndEpochDay( 2000, 2 ) );
+        assertEquals( CalendarTable.DEFAULT_FIRST_YEAR, CalendarTable.get().getFirstYear() );
+        assertEquals( CalendarTable.DEFAULT_LAST_YEAR, CalendarTable.get().getLastYear() );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCalendarTableWithInvalidRange() {
+        new CalendarTable( 2001, 2000 );
+    }
+
 }
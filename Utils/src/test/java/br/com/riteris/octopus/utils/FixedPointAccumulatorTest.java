@@ -0,0 +1,137 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class FixedPointAccumulatorTest {
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingAccumulatorWithInvalidScale() {
+        new FixedPointAccumulator( 19 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAddingNaN() {
+        new FixedPointAccumulator().add( Double.NaN );
+    }
+
+    @Test( expected = IllegalStateException.class )
+    public final void testAvgWithoutNumbers() {
+        new FixedPointAccumulator().getAvg( 2 );
+    }
+
+    @Test
+    public final void testSumAndAvg() {
+        final FixedPointAccumulator accumulator = new FixedPointAccumulator( 2 );
+
+        accumulator.add( 0.1 ).add( 0.2 ).add( 10L ).add( new BigDecimal( "-0.05" ) );
+
+        assertEquals( 4, accumulator.getCount() );
+        assertEquals( new BigDecimal( "10.25" ), accumulator.getSum() );
+        assertEquals( new BigDecimal( "2.56" ), accumulator.getAvg( 2 ) );
+        assertEquals( new BigDecimal( "3" ), accumulator.getAvg( 0 ) );
+        assertEquals( new BigDecimal( "2.5625" ), accumulator.getAvg( 4 ) );
+
+        accumulator.reset();
+
+        assertEquals( 0, accumulator.getCount() );
+        assertEquals( new BigDecimal( "0.00" ), accumulator.getSum() );
+    }
+
+    @Test
+    public final void testValuesBeyondScaleAndRange() {
+        final FixedPointAccumulator accumulator = new FixedPointAccumulator( 2 );
+
+        accumulator.add( 0.125 ).add( Long.MAX_VALUE ).add( Long.MAX_VALUE ).add( new BigDecimal( "1E+30" ) ).add( 1e300 );
+
+        final BigDecimal expected = new BigDecimal( "0.125" ).add( BigDecimal.valueOf( Long.MAX_VALUE ).multiply( BigDecimal.valueOf( 2 ) ) )
+                .add( new BigDecimal( "1E+30" ) ).add( BigDecimal.valueOf( 1e300 ) );
+
+        assertEquals( 0, expected.compareTo( accumulator.getSum() ) );
+        assertEquals( expected.divide( BigDecimal.valueOf( 5 ), 3, BigDecimal.ROUND_HALF_UP ), accumulator.getAvg( 3 ) );
+    }
+
+    @Test
+    public final void testMantissaSpillsTo128Bits() {
+        final FixedPointAccumulator accumulator = new FixedPointAccumulator( 8 );
+        final long large = Long.MAX_VALUE / 100000000L;
+
+        BigDecimal expected = BigDecimal.ZERO;
+
+        for ( int i = 0; i < 1000; i++ ) {
+            accumulator.add( large );
+            accumulator.add( -0.5 );
+            expected = expected.add( BigDecimal.valueOf( large ) ).add( BigDecimal.valueOf( -0.5 ) );
+        }
+
+        assertEquals( 0, expected.compareTo( accumulator.getSum() ) );
+        assertEquals( expected.divide( BigDecimal.valueOf( 2000 ), 2, BigDecimal.ROUND_HALF_UP ), accumulator.getAvg( 2 ) );
+    }
+
+    @Test
+    public final void testMerge() {
+        final FixedPointAccumulator first = new FixedPointAccumulator( 4 ).add( 1.5 ).add( 1e300 );
+        final FixedPointAccumulator second = new FixedPointAccumulator( 4 ).add( 2.25 );
+        final FixedPointAccumulator otherScale = new FixedPointAccumulator( 1 ).add( 0.5 );
+
+        first.add( second ).add( otherScale );
+
+        assertEquals( 4, first.getCount() );
+        assertEquals( 0, BigDecimal.valueOf( 1e300 ).add( new BigDecimal( "4.25" ) ).compareTo( first.getSum() ) );
+    }
+
+    @Test
+    public final void testDivideHalfUpMatchesBigDecimal() {
+        final Random random = new Random( 13 );
+
+        for ( int i = 0; i < 100000; i++ ) {
+            final long dividend = random.nextInt( 2000001 ) - 1000000;
+            final long divisor = 1 + random.nextInt( 1000 );
+
+            assertEquals( BigDecimal.valueOf( dividend ).divide( BigDecimal.valueOf( divisor ), 0, BigDecimal.ROUND_HALF_UP ).longValue(),
+                    FixedPointAccumulator.divideHalfUp( dividend, divisor ) );
+        }
+    }
+
+    @Test
+    public final void testAvgMatchesBigDecimalArithmetic() {
+        final Random random = new Random( 31 );
+
+        for ( int round = 0; round < 500; round++ ) {
+            final FixedPointAccumulator accumulator = new FixedPointAccumulator();
+            final int scale = random.nextInt( 12 );
+
+            BigDecimal expected = BigDecimal.ZERO;
+
+            for ( int i = 0, size = 1 + random.nextInt( 100 ); i < size; i++ ) {
+                final double number;
+
+                switch ( random.nextInt( 4 ) ) {
+                    case 0:
+                        number = random.nextInt( 1000000 ) / 100.0 - 5000;
+                        break;
+                    case 1:
+                        number = random.nextDouble() * 1000;
+                        break;
+                    case 2:
+                        number = random.nextInt();
+                        break;
+                    default:
+                        number = random.nextInt( 100000000 ) / 1e8;
+                }
+
+                accumulator.add( number );
+                expected = expected.add( BigDecimal.valueOf( number ) );
+
+                assertEquals( number + "", 0, expected.compareTo( accumulator.getSum() ) );
+            }
+
+            assertEquals( expected.divide( BigDecimal.valueOf( accumulator.getCount() ), scale, BigDecimal.ROUND_HALF_UP ), accumulator.getAvg( scale ) );
+        }
+    }
+
+}
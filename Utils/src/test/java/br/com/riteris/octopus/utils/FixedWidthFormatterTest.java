@@ -0,0 +1,65 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
+
+public class FixedWidthFormatterTest {
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingFormatterWithInvalidCapacity() {
+        new FixedWidthFormatter( 0 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAppendValueLongerThanWidth() {
+        new FixedWidthFormatter().appendFilledAtRight( "foobar", 3 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAppendWithZeroWidth() {
+        new FixedWidthFormatter().appendFilledAtRight( "", 0 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAppendNegativeNumber() {
+        new FixedWidthFormatter().appendFilledAtLeft( -1, 5, '0' );
+    }
+
+    @Test
+    public final void testFormatRecord() {
+        final FixedWidthFormatter formatter = new FixedWidthFormatter( 4 );
+
+        formatter.appendFilledAtRight( "BANK", 6 )
+                .appendFilledAtLeft( "42", 4 )
+                .appendFilledAtLeft( 1234, 8, '0' )
+                .appendFilledAtLeft( 0, 2, '0' )
+                .appendFilled( "X", 3, '*', false )
+                .appendFilling( ' ', 2 )
+                .append( "\r\n" );
+
+        assertEquals( "BANK    4200001234" + "00X**  \r\n", formatter.toString() );
+        assertEquals( 27, formatter.length() );
+        assertEquals( '4', formatter.charAt( 8 ) );
+        assertEquals( "BANK", formatter.subSequence( 0, 4 ) );
+    }
+
+    @Test
+    public final void testResetAndWriteTo() throws IOException {
+        final FixedWidthFormatter formatter = new FixedWidthFormatter();
+        final StringWriter writer = new StringWriter();
+        final StringBuilder builder = new StringBuilder();
+
+        formatter.appendFilledAtRight( "A", 3 ).writeTo( writer );
+        formatter.reset().appendFilledAtLeft( "B", 3 ).writeTo( writer );
+        formatter.writeTo( builder );
+
+        assertEquals( "A    B", writer.toString() );
+        assertEquals( "  B", builder.toString() );
+        assertEquals( "", formatter.reset().toString() );
+    }
+
+}
@@ -0,0 +1,79 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static br.com.riteris.octopus.utils.FixedWidthColumn.numeric;
+import static br.com.riteris.octopus.utils.FixedWidthColumn.text;
+import static org.junit.Assert.assertEquals;
+
+public class FixedWidthLayoutTest {
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingColumnWithBlankName() {
+        text( " ", 0, 1 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingColumnWithNegativeOffset() {
+        text( "name", -1, 1 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingColumnWithZeroWidth() {
+        numeric( "amount", 0, 0 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingColumnWithNullAlignment() {
+        new FixedWidthColumn( "name", 0, 1, null, ' ' );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingLayoutWithZeroLength() {
+        new FixedWidthLayout( 0, text( "name", 0, 1 ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingLayoutWithoutColumns() {
+        new FixedWidthLayout( 10, new ArrayList<>() );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingLayoutWithColumnOutOfRecord() {
+        new FixedWidthLayout( 10, text( "name", 5, 6 ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingLayoutWithOverlappingColumns() {
+        new FixedWidthLayout( 10, text( "name", 0, 5 ), numeric( "amount", 4, 3 ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingLayoutWithDuplicatedColumns() {
+        new FixedWidthLayout( 10, text( "name", 0, 5 ), numeric( "name", 5, 3 ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testGetUnknownColumn() {
+        new FixedWidthLayout( 10, text( "name", 0, 5 ) ).getColumnIndex( "amount" );
+    }
+
+    @Test
+    public final void testLayout() {
+        final FixedWidthLayout layout = new FixedWidthLayout( 12, numeric( "amount", 6, 4 ), text( "name", 0, 5 ) );
+        final char[] blankRecord = new char[ 12 ];
+
+        layout.copyBlankRecord( blankRecord );
+
+        assertEquals( 12, layout.getRecordLength() );
+        assertEquals( 2, layout.getColumnCount() );
+        assertEquals( 1, layout.getColumnIndex( "name" ) );
+        assertEquals( "amount", layout.getColumn( 0 ).getName() );
+        assertEquals( 10, layout.getColumn( 0 ).getEnd() );
+        assertEquals( FixedWidthAlignment.RIGHT, layout.getColumn( 0 ).getAlignment() );
+        assertEquals( "      0000  ", new String( blankRecord ) );
+    }
+
+}
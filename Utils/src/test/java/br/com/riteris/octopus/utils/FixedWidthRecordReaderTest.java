@@ -0,0 +1,141 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import static br.com.riteris.octopus.utils.FixedWidthColumn.numeric;
+import static br.com.riteris.octopus.utils.FixedWidthColumn.text;
+import static org.junit.Assert.*;
+
+public class FixedWidthRecordReaderTest {
+
+    private final FixedWidthLayout layout = new FixedWidthLayout( 30, text( "type", 0, 1 ), text( "name", 1, 8 ),
+            new FixedWidthColumn( "code", 9, 4, FixedWidthAlignment.RIGHT, ' ' ), numeric( "amount", 13, 8 ), numeric( "big", 21, 9 ) );
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File writeFile( final String content ) throws IOException {
+        final File file = temporaryFolder.newFile();
+
+        Files.write( file.toPath(), content.getBytes( StandardCharsets.ISO_8859_1 ) );
+
+        return file;
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingReaderWithNullFile() throws IOException {
+        new FixedWidthRecordReader( null, layout, StandardCharsets.ISO_8859_1 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingReaderWithSmallMapping() throws IOException {
+        new FixedWidthRecordReader( writeFile( "" ).toPath(), layout, StandardCharsets.ISO_8859_1, 29 );
+    }
+
+    @Test
+    public final void testReadEmptyFile() throws IOException {
+        try ( FixedWidthRecordReader reader = new FixedWidthRecordReader( writeFile( "" ).toPath(), layout, StandardCharsets.ISO_8859_1 ) ) {
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test( expected = IOException.class )
+    public final void testReadIncompleteRecord() throws IOException {
+        try ( FixedWidthRecordReader reader = new FixedWidthRecordReader( writeFile( "1João     -4200012345\r\n" ).toPath(), layout,
+                StandardCharsets.ISO_8859_1 ) ) {
+            reader.next();
+        }
+    }
+
+    @Test
+    public final void testReadRecords() throws IOException {
+        final File file = writeFile( "1" + "João    " + " -42" + "00012345" + "000000007" + "\r\n" +
+                "2" + "        " + "  +7" + "00000000" + "       -3" + "\n" +
+                "3" + "  Maria " + "   X" + "0000000A" + "000000000" );
+
+        try ( FixedWidthRecordReader reader = new FixedWidthRecordReader( file.toPath(), layout, StandardCharsets.ISO_8859_1, 32 ) ) {
+            final FixedWidthRecord record = reader.getRecord();
+
+            assertTrue( reader.next() );
+            assertEquals( 1, record.getRecordNumber() );
+            assertEquals( "João", record.getString( "name" ) );
+            assertEquals( "-42", record.getField( "code" ).toString() );
+            assertEquals( -42, record.getInt( "code" ) );
+            assertEquals( 12345L, record.getLong( "amount" ) );
+            assertEquals( new BigDecimal( "123.45" ), record.getDecimal( "amount", 2 ) );
+            assertEquals( new BigDecimal( "0.0000007" ), record.getDecimal( "big", 7 ) );
+            assertEquals( 'J', record.getField( 1 ).charAt( 0 ) );
+            assertEquals( "oã", record.getField( 1 ).subSequence( 1, 3 ).toString() );
+            assertEquals( "1João     -4200012345000000007", record.toString() );
+
+            assertTrue( reader.next() );
+            assertEquals( 2, record.getRecordNumber() );
+            assertEquals( "", record.getString( "name" ) );
+            assertTrue( record.isBlank( "name" ) );
+            assertFalse( record.isBlank( "code" ) );
+            assertEquals( 7, record.getInt( "code" ) );
+            assertEquals( "", record.getString( "amount" ) );
+            assertEquals( 0L, record.getLong( "amount" ) );
+            assertEquals( -3L, record.getLong( "big" ) );
+
+            assertTrue( reader.next() );
+            assertEquals( "  Maria", record.getString( "name" ) );
+            assertEquals( "A", record.getString( "amount" ) );
+
+            final CharSequence amount = record.getField( "amount" );
+
+            try {
+                record.getLong( "amount" );
+                fail( "Invalid number was parsed." );
+            } catch ( NumberFormatException e ) {
+                assertTrue( e.getMessage().contains( "record 3" ) );
+            }
+
+            assertEquals( "A", amount.toString() );
+
+            try {
+                record.getInt( "code" );
+                fail( "Invalid number was parsed." );
+            } catch ( NumberFormatException e ) {
+                assertTrue( e.getMessage().contains( "code" ) );
+            }
+
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public final void testReadWrittenRecordsAcrossMappings() throws IOException {
+        final File file = temporaryFolder.newFile();
+
+        try ( FixedWidthRecordWriter writer = new FixedWidthRecordWriter( FileChannel.open( file.toPath(), StandardOpenOption.WRITE ), layout,
+                StandardCharsets.ISO_8859_1 ) ) {
+            for ( int i = 0; i < 500; i++ ) {
+                writer.set( "type", "1" ).set( "name", "N" + i ).set( "amount", i * 3 ).writeRecord();
+            }
+        }
+
+        try ( FixedWidthRecordReader reader = new FixedWidthRecordReader( file.toPath(), layout, StandardCharsets.ISO_8859_1, 100 ) ) {
+            int count = 0;
+
+            while ( reader.next() ) {
+                assertEquals( "N" + count, reader.getRecord().getString( "name" ) );
+                assertEquals( count * 3, reader.getRecord().getInt( "amount" ) );
+                count++;
+            }
+
+            assertEquals( 500, count );
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+import static br.com.riteris.octopus.utils.FixedWidthColumn.numeric;
+import static br.com.riteris.octopus.utils.FixedWidthColumn.text;
+import static org.junit.Assert.assertEquals;
+
+public class FixedWidthRecordWriterTest {
+
+    private final FixedWidthLayout layout = new FixedWidthLayout( 20, text( "type", 0, 1 ), text( "name", 1, 8 ),
+            new FixedWidthColumn( "code", 9, 3, FixedWidthAlignment.RIGHT, ' ' ), numeric( "amount", 12, 8 ) );
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingWriterWithNullChannel() {
+        new FixedWidthRecordWriter( null, layout, StandardCharsets.ISO_8859_1 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingWriterWithMultiByteCharset() {
+        new FixedWidthRecordWriter( Channels.newChannel( new ByteArrayOutputStream() ), layout, StandardCharsets.UTF_16 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingWriterWithSmallBuffer() {
+        new FixedWidthRecordWriter( Channels.newChannel( new ByteArrayOutputStream() ), layout, StandardCharsets.ISO_8859_1, "\n", 20 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testSetValueLongerThanColumn() {
+        new FixedWidthRecordWriter( Channels.newChannel( new ByteArrayOutputStream() ), layout, StandardCharsets.ISO_8859_1 ).set( "code", "ABCD" );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testSetNumberLongerThanColumn() {
+        new FixedWidthRecordWriter( Channels.newChannel( new ByteArrayOutputStream() ), layout, StandardCharsets.ISO_8859_1 ).set( "amount", 123456789 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testSetNegativeNumber() {
+        new FixedWidthRecordWriter( Channels.newChannel( new ByteArrayOutputStream() ), layout, StandardCharsets.ISO_8859_1 ).set( "amount", -1 );
+    }
+
+    @Test
+    public final void testWriteRecords() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final FixedWidthRecordWriter writer = new FixedWidthRecordWriter( Channels.newChannel( output ), layout, StandardCharsets.ISO_8859_1, "\n", 25 );
+
+        writer.set( "type", "1" ).set( "name", "João" ).set( "code", "7" ).set( "amount", 12345 ).writeRecord();
+        writer.set( 0, "2" ).set( 2, 42 ).writeRecord();
+        writer.writeRecord();
+        writer.flush();
+
+        assertEquals( 3, writer.getRecordsWritten() );
+        assertEquals( "1João      700012345\n" + "2         4200000000\n" + "            00000000\n", new String( output.toByteArray(),
+                StandardCharsets.ISO_8859_1 ) );
+    }
+
+    @Test
+    public final void testWriteRecordsToFile() throws IOException {
+        final File file = temporaryFolder.newFile();
+
+        try ( FixedWidthRecordWriter writer = new FixedWidthRecordWriter( FileChannel.open( file.toPath(), StandardOpenOption.WRITE ), layout,
+                StandardCharsets.US_ASCII ) ) {
+            for ( int i = 0; i < 1000; i++ ) {
+                writer.set( "type", "1" ).set( "name", "Ação" ).set( "amount", i ).writeRecord();
+            }
+        }
+
+        final byte[] content = Files.readAllBytes( file.toPath() );
+
+        assertEquals( 22000, content.length );
+        assertEquals( "1A??o       00000999\r\n", new String( content, 21978, 22, StandardCharsets.US_ASCII ) );
+    }
+
+    @Test
+    public final void testWriteUnmappableCharactersKeepsColumnWidths() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final FixedWidthRecordWriter writer = new FixedWidthRecordWriter( Channels.newChannel( output ), layout, StandardCharsets.US_ASCII, "\n", 25 );
+
+        writer.set( "type", "\uD83D" ).set( "name", "A\uD83D\uDE00B" ).set( "code", "\u00E7" ).set( "amount", 7 ).writeRecord();
+        writer.flush();
+
+        assertEquals( "?A??B      ?00000007\n", new String( output.toByteArray(), StandardCharsets.US_ASCII ) );
+    }
+
+}
@@ -0,0 +1,89 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class GroupedAverageAggregatorTest {
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAddingNullKey() {
+        new GroupedAverageAggregator< String >().add( null, 1.0 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAddingNaN() {
+        new GroupedAverageAggregator< String >().add( "a", Double.NaN );
+    }
+
+    @Test
+    public final void testAggregation() {
+        final GroupedAverageAggregator< String > aggregator = new GroupedAverageAggregator<>();
+
+        aggregator.add( "north", 10.5 ).add( "north", 11.5 ).add( "south", 3L ).add( "south", 0.125 ).add( "east", Long.MAX_VALUE );
+
+        assertEquals( 3, aggregator.getGroupCount() );
+        assertEquals( 2, aggregator.getCount( "north" ) );
+        assertEquals( 0, aggregator.getCount( "west" ) );
+        assertNull( aggregator.getAvg( "west", 2 ) );
+        assertEquals( new BigDecimal( "11.00" ), aggregator.getAvg( "north", 2 ) );
+        assertEquals( new BigDecimal( "1.563" ), aggregator.getAvg( "south", 3 ) );
+        assertEquals( 0, BigDecimal.valueOf( Long.MAX_VALUE ).compareTo( aggregator.getSum( "east" ) ) );
+
+        final Map< String, Number > avgs = aggregator.getAvgs( 1 );
+
+        assertEquals( 3, avgs.size() );
+        assertEquals( new BigDecimal( "11.0" ), avgs.get( "north" ) );
+    }
+
+    @Test
+    public final void testAggregationMatchesAvgWithScalePerGroup() {
+        final Random random = new Random( 41 );
+        final GroupedAverageAggregator< Integer > first = new GroupedAverageAggregator<>( 2 );
+        final GroupedAverageAggregator< Integer > second = new GroupedAverageAggregator<>();
+        final Map< Integer, Collection< Number > > groups = new HashMap<>();
+
+        for ( int i = 0; i < 50000; i++ ) {
+            final Integer key = random.nextInt( 5000 );
+            final double value = random.nextInt( 1000000 ) / 100.0;
+
+            ( i % 2 == 0 ? first : second ).add( key, value );
+            groups.computeIfAbsent( key, k -> new ArrayList<>() ).add( value );
+        }
+
+        first.merge( second );
+
+        assertEquals( groups.size(), first.getGroupCount() );
+
+        for ( Map.Entry< Integer, Collection< Number > > group : groups.entrySet() ) {
+            assertEquals( NumberTools.avgWithScale( group.getValue(), 4 ), first.getAvg( group.getKey(), 4 ) );
+            assertEquals( group.getValue().size(), first.getCount( group.getKey() ) );
+        }
+    }
+
+    @Test
+    public final void testAvgWithScaleGroupingBy() {
+        final List< String[] > rows = new ArrayList<>();
+
+        for ( int i = 0; i < 100000; i++ ) {
+            rows.add( new String[]{ "branch" + ( i % 7 ), String.valueOf( i % 7 ) } );
+        }
+
+        final Map< String, Number > sequential = NumberTools.avgWithScaleGroupingBy( rows, row -> row[ 0 ], row -> Double.parseDouble( row[ 1 ] ), 2,
+                false );
+        final Map< String, Number > parallel = NumberTools.avgWithScaleGroupingBy( rows, row -> row[ 0 ], row -> Double.parseDouble( row[ 1 ] ), 2, true );
+
+        assertEquals( 7, sequential.size() );
+        assertEquals( new BigDecimal( "3.00" ), sequential.get( "branch3" ) );
+        assertEquals( sequential, parallel );
+    }
+
+}
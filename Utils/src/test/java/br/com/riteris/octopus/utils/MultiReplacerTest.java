@@ -0,0 +1,153 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class MultiReplacerTest {
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingReplacerWithEmptyMap() {
+        new MultiReplacer( new HashMap<>() );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingReplacerWithEmptyKey() {
+        final Map< String, String > map = new HashMap<>();
+        map.put( "", "x" );
+
+        new MultiReplacer( map );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingReplacerWithNullValue() {
+        final Map< String, String > map = new HashMap<>();
+        map.put( "a", null );
+
+        new MultiReplacer( map );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testReplaceNullText() {
+        final Map< String, String > map = new HashMap<>();
+        map.put( "a", "b" );
+
+        new MultiReplacer( map ).replace( ( CharSequence ) null );
+    }
+
+    @Test
+    public final void testReplace() {
+        final Map< String, String > map = new HashMap<>();
+        map.put( "1234-5", "****-*" );
+        map.put( "98765-4", "*****-*" );
+        map.put( "he", "she" );
+        map.put( "hers", "theirs" );
+
+        final MultiReplacer replacer = new MultiReplacer( map );
+
+        assertEquals( "", replacer.replace( "" ) );
+        assertEquals( "nothing to do", replacer.replace( "nothing to do" ) );
+        assertEquals( "accounts ****-* and *****-*.", replacer.replace( "accounts 1234-5 and 98765-4." ) );
+        assertEquals( "theirs and she", replacer.replace( "hers and he" ) );
+        assertEquals( "theirs", replacer.replace( new StringBuilder( "hers" ) ) );
+        assertEquals( "sher", replacer.replace( "her" ) );
+    }
+
+    @Test
+    public final void testReplaceUsesLeftmostLongestMatch() {
+        final Map< String, String > map = new HashMap<>();
+        map.put( "ab", "[ab]" );
+        map.put( "cd", "[cd]" );
+        map.put( "abcde", "[abcde]" );
+        map.put( "bcd", "[bcd]" );
+
+        final MultiReplacer replacer = new MultiReplacer( map );
+
+        assertEquals( "[ab][cd]X", replacer.replace( "abcdX" ) );
+        assertEquals( "[abcde]", replacer.replace( "abcde" ) );
+        assertEquals( "x[bcd]", replacer.replace( "xbcd" ) );
+    }
+
+    @Test
+    public final void testReplaceStream() throws IOException {
+        final Map< String, String > map = new HashMap<>();
+        map.put( "foo", "bar" );
+
+        final StringBuilder source = new StringBuilder();
+        final StringBuilder expected = new StringBuilder();
+
+        for ( int i = 0; i < 10000; i++ ) {
+            source.append( "foo " ).append( i ).append( ' ' );
+            expected.append( "bar " ).append( i ).append( ' ' );
+        }
+
+        final StringWriter result = new StringWriter();
+
+        new MultiReplacer( map ).replace( new StringReader( source.toString() ), result );
+
+        assertEquals( expected.toString(), result.toString() );
+    }
+
+    @Test
+    public final void testReplaceMatchesReferenceImplementation() {
+        final Random random = new Random( 7 );
+
+        for ( int round = 0; round < 300; round++ ) {
+            final Map< String, String > map = new HashMap<>();
+
+            for ( int i = 0; i < 1 + random.nextInt( 6 ); i++ ) {
+                map.put( randomText( random, 1 + random.nextInt( 4 ) ), "<" + i + ">" );
+            }
+
+            final MultiReplacer replacer = new MultiReplacer( map );
+
+            for ( int i = 0; i < 20; i++ ) {
+                final String text = randomText( random, random.nextInt( 40 ) );
+
+                assertEquals( map + " " + text, replaceLeftmostLongest( text, map ), replacer.replace( text ) );
+            }
+        }
+    }
+
+    private static String randomText( final Random random, final int length ) {
+        final StringBuilder text = new StringBuilder();
+
+        for ( int i = 0; i < length; i++ ) {
+            text.append( ( char ) ( 'a' + random.nextInt( 3 ) ) );
+        }
+
+        return text.toString();
+    }
+
+    private static String replaceLeftmostLongest( final String text, final Map< String, String > map ) {
+        final StringBuilder result = new StringBuilder();
+        int position = 0;
+
+        while ( position < text.length() ) {
+            String longest = null;
+
+            for ( String key : map.keySet() ) {
+                if ( text.startsWith( key, position ) && ( longest == null || key.length() > longest.length() ) ) {
+                    longest = key;
+                }
+            }
+
+            if ( longest != null ) {
+                result.append( map.get( longest ) );
+                position += longest.length();
+            } else {
+                result.append( text.charAt( position++ ) );
+            }
+        }
+
+        return result.toString();
+    }
+
+}
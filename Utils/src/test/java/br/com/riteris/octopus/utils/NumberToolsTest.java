@@ -5,7 +5,10 @@ import org.junit.Test;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Random;
+import java.util.stream.DoubleStream;
 
 import static br.com.riteris.octopus.utils.NumberTools.avgWithScale;
 import static br.com.riteris.octopus.utils.NumberTools.avgWithScaleAndPeakTreatment;
@@ -31,7 +34,7 @@ public class NumberToolsTest {
 
     @Test( expected = IllegalArgumentException.class )
     public final void testAvgWithScaleWithNullCollection() {
-        avgWithScale( null, 1 );
+        avgWithScale( ( Collection< Number > ) null, 1 );
     }
 
     @Test( expected = IllegalArgumentException.class )
@@ -56,7 +59,7 @@ public class NumberToolsTest {
 
     @Test( expected = IllegalArgumentException.class )
     public final void testAvgWithScaleAndPeakTreatmentWithNullCollection() {
-        avgWithScaleAndPeakTreatment( null, 1, 1, false );
+        avgWithScaleAndPeakTreatment( ( Collection< Number > ) null, 1, 1, false );
     }
 
     @Test( expected = IllegalArgumentException.class )
@@ -94,4 +97,163 @@ public class NumberToolsTest {
         assertEquals( avgWithScaleAndPeakTreatment( collectionWithThreeValuesWithPeak, 0, 90, false ).intValue(), 10 );
     }
 
-}
\ No newline at end of file
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAvgWithScaleWithEmptyDoubleArray() {
+        avgWithScale( new double[ 0 ], 1 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAvgWithScaleWithNullLongArray() {
+        avgWithScale( ( long[] ) null, 1 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAvgWithScaleWithIntArrayAndNegativeScale() {
+        avgWithScale( new int[]{ 1 }, -1 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAvgWithScaleWithEmptyDoubleStream() {
+        avgWithScale( DoubleStream.empty(), 1 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAvgWithScaleWithNaN() {
+        avgWithScale( new double[]{ 1, Double.NaN }, 1 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAvgWithScaleAndPeakTreatmentWithDoubleArrayAndNegativePeakPercentual() {
+        avgWithScaleAndPeakTreatment( new double[]{ 1 }, 1, -1, false );
+    }
+
+    @Test
+    public final void testAvgWithScaleWithPrimitives() {
+        assertEquals( new BigDecimal( "40" ), avgWithScale( new double[]{ 10, 10, 100 }, 0 ) );
+        assertEquals( new BigDecimal( "40" ), avgWithScale( new long[]{ 10, 10, 100 }, 0 ) );
+        assertEquals( new BigDecimal( "40" ), avgWithScale( new int[]{ 10, 10, 100 }, 0 ) );
+        assertEquals( new BigDecimal( "40" ), avgWithScale( DoubleStream.of( 10, 10, 100 ), 0 ) );
+        assertEquals( new BigDecimal( "1.01" ), avgWithScale( new double[]{ 1.0, 1.01 }, 2 ) );
+        assertEquals( new BigDecimal( "0.3" ), avgWithScale( new double[]{ 0.1, 0.2, 0.3, 0.4, 0.5 }, 1 ) );
+        assertEquals( new BigDecimal( "-2" ), avgWithScale( new int[]{ -1, -2 }, 0 ) );
+    }
+
+    @Test
+    public final void testAvgWithScaleWithLongOverflow() {
+        assertEquals( new BigDecimal( Long.MAX_VALUE - 1 ), avgWithScale( new long[]{ Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE - 3 }, 0 ) );
+        assertEquals( new BigDecimal( Long.MIN_VALUE ), avgWithScale( new long[]{ Long.MIN_VALUE, Long.MIN_VALUE }, 0 ) );
+        assertEquals( new BigDecimal( "-0.5" ), avgWithScale( new long[]{ Long.MIN_VALUE, Long.MAX_VALUE }, 1 ) );
+    }
+
+    @Test
+    public final void testAvgWithScaleWithCompensatedDoubles() {
+        final double[] numbers = new double[ 1000001 ];
+
+        Arrays.fill( numbers, 0.1 );
+        numbers[ 0 ] = 1e10;
+
+        assertEquals( new BigDecimal( "10000.0900" ), avgWithScale( numbers, 4 ) );
+    }
+
+    @Test
+    public final void testAvgWithScaleAndPeakTreatmentWithPrimitives() {
+        assertEquals( 40, avgWithScaleAndPeakTreatment( new double[]{ 10, 10, 100 }, 0, 10, true ).intValue() );
+        assertEquals( 10, avgWithScaleAndPeakTreatment( new double[]{ 10, 10, 100 }, 0, 90, false ).intValue() );
+        assertEquals( 40, avgWithScaleAndPeakTreatment( new long[]{ 10, 10, 100 }, 0, 10, true ).intValue() );
+        assertEquals( 10, avgWithScaleAndPeakTreatment( new long[]{ 10, 10, 100 }, 0, 90, false ).intValue() );
+        assertEquals( 40, avgWithScaleAndPeakTreatment( new int[]{ 10, 10, 100 }, 0, 10, true ).intValue() );
+        assertEquals( 10, avgWithScaleAndPeakTreatment( new int[]{ 10, 10, 100 }, 0, 90, false ).intValue() );
+        assertEquals( 10, avgWithScaleAndPeakTreatment( DoubleStream.of( 10, 10, 100 ), 0, 90, false ).intValue() );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAvgWithScaleAndPeakTreatmentRemovingEveryNumber() {
+        avgWithScaleAndPeakTreatment( new int[]{ 0, 100 }, 0, 10, false );
+    }
+
+    @Test
+    public final void testPrimitiveAveragesMatchCollectionAverages() {
+        final Random random = new Random( 5 );
+
+        for ( int round = 0; round < 200; round++ ) {
+            final int size = 1 + random.nextInt( 50 );
+            final int scale = random.nextInt( 4 );
+            final double peakPercentual = random.nextInt( 100 );
+            final boolean substitute = random.nextBoolean();
+            final double[] doubles = new double[ size ];
+            final long[] longs = new long[ size ];
+            final Collection< Number > doubleCollection = new ArrayList<>();
+            final Collection< Number > longCollection = new ArrayList<>();
+
+            for ( int i = 0; i < size; i++ ) {
+                doubles[ i ] = random.nextInt( 100000 ) / 100.0;
+                longs[ i ] = random.nextInt( 1000 );
+                doubleCollection.add( doubles[ i ] );
+                longCollection.add( longs[ i ] );
+            }
+
+            assertEquals( avgWithScale( doubleCollection, scale ), avgWithScale( doubles, scale ) );
+            assertEquals( avgWithScale( longCollection, scale ), avgWithScale( longs, scale ) );
+
+            if ( substitute ) {
+                assertEquals( avgWithScaleAndPeakTreatment( longCollection, scale, peakPercentual, true ),
+                        avgWithScaleAndPeakTreatment( longs, scale, peakPercentual, true ) );
+
+                assertEquals( avgWithScaleAndPeakTreatment( doubleCollection, scale, peakPercentual, true ),
+                        avgWithScaleAndPeakTreatment( doubles, scale, peakPercentual, true ) );
+            }
+        }
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAvgWithScaleAndPercentileTreatmentWithInvalidPercentiles() {
+        NumberTools.avgWithScaleAndPercentileTreatment( new double[]{ 1, 2 }, 2, 50, 50, false );
+    }
+
+    @Test
+    public final void testAvgWithScaleAndPercentileTreatment() {
+        final double[] numbers = new double[ 100 ];
+        final Collection< Number > collection = new ArrayList<>();
+
+        for ( int i = 0; i < numbers.length; i++ ) {
+            numbers[ i ] = i < 95 ? 10 : 1000;
+            collection.add( numbers[ i ] );
+        }
+
+        assertEquals( new BigDecimal( "10.00" ), NumberTools.avgWithScaleAndPercentileTreatment( numbers, 2, 0, 95, false ) );
+        assertEquals( new BigDecimal( "10.00" ), NumberTools.avgWithScaleAndPercentileTreatment( collection, 2, 0, 95, false ) );
+        assertEquals( new BigDecimal( "12.48" ), NumberTools.avgWithScaleAndPercentileTreatment( numbers, 2, 0, 95, true ) );
+        assertEquals( avgWithScale( numbers, 2 ), NumberTools.avgWithScaleAndPercentileTreatment( numbers, 2, 0, 100, false ) );
+    }
+
+    @Test
+    public final void testIsPeakAgreesWithPeakTreatment() {
+        final Random random = new Random( 13 );
+
+        for ( int round = 0; round < 50; round++ ) {
+            final double[] numbers = new double[ 200 ];
+
+            for ( int i = 0; i < numbers.length; i++ ) {
+                numbers[ i ] = ( random.nextInt( 20000 ) - ( round % 5 == 0 ? 15000 : 5000 ) ) / 100.0;
+            }
+
+            final int scale = round % 4;
+            final double peakPercentual = 5 + round;
+            final BigDecimal simpleAvg = BigDecimal.valueOf( avgWithScale( numbers, scale ).doubleValue() );
+            final FixedPointAccumulator retained = new FixedPointAccumulator();
+
+            for ( double number : numbers ) {
+                if ( !NumberTools.isPeak( number, simpleAvg, peakPercentual ) ) {
+                    retained.add( number );
+                }
+            }
+
+            if ( retained.getCount() == 0 ) {
+                continue;
+            }
+
+            assertEquals( retained.getAvg( scale ), avgWithScaleAndPeakTreatment( numbers, scale, peakPercentual, false ) );
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+public class ObjectDescriberTest {
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingWithNegativeDepth() {
+        new ObjectDescriber( -1, 10, 100 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testDescribingToNullTarget() throws IOException {
+        ObjectDescriber.DEFAULT.describe( "A", null );
+    }
+
+    @Test
+    public final void testDescribingWithinLimits() {
+        final Map< String, Object > map = new TreeMap<>();
+
+        map.put( "A", Arrays.asList( 1, 2 ) );
+        map.put( "B", new int[]{ 3, 4 } );
+
+        assertEquals( "TreeMap: [ Key: String: A - Value: ArrayList: [ Integer: 1, Integer: 2 ], Key: String: B - Value: int[]: [ Integer: 3, Integer: 4 ] ]",
+                ObjectDescriber.DEFAULT.describe( map ) );
+        assertEquals( "String: -BLANK-", ObjectDescriber.DEFAULT.describe( "   " ) );
+        assertEquals( "    * N/A: -NULL-, \r\n    * String: -EMPTY-.", ObjectDescriber.DEFAULT.describeAll( Arrays.asList( null, "" ) ) );
+    }
+
+    @Test
+    public final void testElementLimit() {
+        final List< Integer > values = new ArrayList<>();
+
+        for ( int i = 0; i < 1000000; i++ ) {
+            values.add( i );
+        }
+
+        final ObjectDescriber describer = new ObjectDescriber( 4, 3, 1000 );
+
+        assertEquals( "ArrayList: [ Integer: 0, Integer: 1, Integer: 2, ... (999997 more) ]", describer.describe( values ) );
+        assertEquals( "    * Integer: 0, \r\n    * Integer: 1, \r\n    * Integer: 2, \r\n    * ... (999997 more).", describer.describeAll( values ) );
+    }
+
+    @Test
+    public final void testDepthLimit() {
+        final List< Object > nested = Collections.singletonList( Collections.singletonList( Collections.singletonList( "X" ) ) );
+
+        assertEquals( "SingletonList: [ SingletonList: [ ... (1 elements) ] ]", new ObjectDescriber( 1, 10, 1000 ).describe( nested ) );
+    }
+
+    @Test
+    public final void testCharacterBudget() throws IOException {
+        final StringWriter writer = new StringWriter();
+        final StringBuilder huge = new StringBuilder();
+
+        for ( int i = 0; i < 100000; i++ ) {
+            huge.append( 'x' );
+        }
+
+        new ObjectDescriber( 4, 10, 20 ).describe( Arrays.asList( huge.toString(), "after" ), writer );
+
+        assertEquals( 20, writer.toString().length() );
+        assertEquals( "ArrayList: [ Stri...", writer.toString() );
+    }
+
+    @Test
+    public final void testExhaustedBudgetSkipsValues() {
+        final int[] conversions = new int[ 2 ];
+        final Object value = new Object() {
+
+            @Override
+            public String toString() {
+                conversions[ 0 ]++;
+
+                return "value";
+            }
+
+        };
+        final CharSequence huge = new CharSequence() {
+
+            @Override
+            public int length() {
+                return Integer.MAX_VALUE;
+            }
+
+            @Override
+            public char charAt( final int index ) {
+                conversions[ 1 ]++;
+
+                return 'x';
+            }
+
+            @Override
+            public CharSequence subSequence( final int start, final int end ) {
+                throw new UnsupportedOperationException();
+            }
+
+        };
+
+        final String description = new ObjectDescriber( 4, 10, 30 ).describe( Arrays.asList( huge, value ) );
+
+        assertEquals( 30, description.length() );
+        assertEquals( 0, conversions[ 0 ] );
+        assertTrue( conversions[ 1 ] <= 30 );
+    }
+
+    @Test
+    public final void testUnboundedKeepsArrayToString() {
+        final int[] array = new int[]{ 1, 2 };
+
+        assertFalse( ObjectDescriber.UNBOUNDED.isExpandingArrays() );
+        assertEquals( "int[]: " + array, ObjectDescriber.UNBOUNDED.describe( array ) );
+        assertEquals( "int[]: " + array, ObjectTools.getObjectDescriptionResume( array ) );
+        assertEquals( "int[]: [ Integer: 1, Integer: 2 ]", ObjectDescriber.DEFAULT.describe( array ) );
+    }
+
+    @Test
+    public final void testCycleDetection() {
+        final List< Object > cyclic = new ArrayList<>();
+
+        cyclic.add( "A" );
+        cyclic.add( cyclic );
+
+        assertEquals( "ArrayList: [ String: A, ArrayList: [ -CYCLE- ] ]", ObjectDescriber.DEFAULT.describe( cyclic ) );
+    }
+
+}
@@ -0,0 +1,171 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class ObjectDifferTest {
+
+    private final List< String > byId = Collections.singletonList( "id" );
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testDiffingNullObject() {
+        ObjectTools.diff( new Account( 1, "A", 1L, null ), null );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testDiffingDifferentClassesByAllFields() {
+        ObjectTools.diff( new Account( 1, "A", 1L, null ), "A" );
+    }
+
+    @Test
+    public final void testDiffingSubclassesBySharedFields() {
+        final Account account = new Account( 1, "Ana", 100L, null );
+
+        assertTrue( ObjectTools.diff( account, new Contact( 1, "bia@mail.com" ) ).isEmpty() );
+        assertEquals( Collections.singletonList( new PropertyChange( "id", 1, 2 ) ), ObjectTools.diff( account, new Contact( 2, "ana@mail.com" ) ) );
+        assertTrue( ObjectTools.diffCollections( Collections.singletonList( account ), Collections.singletonList( new Contact( 1, "ana@mail.com" ) ), byId,
+                false ).isEmpty() );
+    }
+
+    @Test
+    public final void testDiffingCollectionsWithDuplicateKeys() {
+        final List< Account > unique = Arrays.asList( new Account( 1, "Ana", 100L, null ), new Account( 2, "Bia", 200L, null ) );
+        final List< Account > duplicated = Arrays.asList( new Account( 1, "Ana", 100L, null ), new Account( 1, "Caio", 300L, null ) );
+
+        for ( boolean parallel : new boolean[]{ false, true } ) {
+            try {
+                ObjectTools.diffCollections( duplicated, unique, byId, parallel );
+                fail( "Duplicate keys in the old collection were accepted." );
+            } catch ( IllegalArgumentException e ) {
+                assertTrue( e.getMessage().contains( "old" ) );
+                assertTrue( e.getMessage().contains( "[1]" ) );
+            }
+
+            try {
+                ObjectTools.diffCollections( unique, duplicated, byId, parallel );
+                fail( "Duplicate keys in the new collection were accepted." );
+            } catch ( IllegalArgumentException e ) {
+                assertTrue( e.getMessage().contains( "new" ) );
+            }
+        }
+    }
+
+    @Test
+    public final void testDiffingObjects() {
+        final Account before = new Account( 1, "Ana", 100L, new Owner( "SP" ) );
+        final Account after = new Account( 1, "Ana", 150L, new Owner( "RJ" ) );
+
+        assertTrue( ObjectTools.diff( before, new Account( 1, "Ana", 100L, before.owner ) ).isEmpty() );
+        assertEquals( Arrays.asList( new PropertyChange( "balance", 100L, 150L ), new PropertyChange( "owner", before.owner, after.owner ) ),
+                ObjectTools.diff( before, after ) );
+        assertEquals( Collections.singletonList( new PropertyChange( "owner.state", "SP", "RJ" ) ), ObjectTools.diff( before, after, Arrays.asList(
+                "name", "owner.state" ) ) );
+        assertTrue( ObjectTools.diff( new Account( 1, "Ana", 1L, null ), new Account( 1, "Ana", 1L, null ), Collections.singletonList( "owner.state" ) )
+                .isEmpty() );
+    }
+
+    @Test
+    public final void testDiffingCollections() {
+        final Account kept = new Account( 1, "Ana", 100L, null );
+        final Account changedBefore = new Account( 2, "Bia", 200L, null );
+        final Account changedAfter = new Account( 2, "Bia", 250L, null );
+        final Account removed = new Account( 3, "Caio", 300L, null );
+        final Account added = new Account( 4, "Davi", 400L, null );
+
+        final List< ObjectChange > changes = ObjectTools.diffCollections( Arrays.asList( kept, changedBefore, removed ), Arrays.asList( added, kept,
+                changedAfter ), byId, false );
+
+        assertEquals( 3, changes.size() );
+        assertEquals( ObjectChange.ChangeType.ADDED, changes.get( 0 ).getType() );
+        assertSame( added, changes.get( 0 ).getNewObject() );
+        assertEquals( ObjectChange.ChangeType.MODIFIED, changes.get( 1 ).getType() );
+        assertEquals( Collections.singletonList( 2 ), changes.get( 1 ).getKey() );
+        assertEquals( Collections.singletonList( new PropertyChange( "balance", 200L, 250L ) ), changes.get( 1 ).getPropertyChanges() );
+        assertEquals( ObjectChange.ChangeType.REMOVED, changes.get( 2 ).getType() );
+        assertSame( removed, changes.get( 2 ).getOldObject() );
+    }
+
+    @Test
+    public final void testParallelCollectionDiffMatchesSequentialDiff() {
+        final Random random = new Random( 5 );
+        final List< Account > before = new ArrayList<>();
+        final List< Account > after = new ArrayList<>();
+
+        for ( int i = 0; i < 100000; i++ ) {
+            before.add( new Account( i, "N" + i, random.nextInt( 100 ), null ) );
+
+            if ( random.nextInt( 10 ) > 0 ) {
+                after.add( new Account( i + ( random.nextInt( 20 ) == 0 ? 1000000 : 0 ), "N" + i, random.nextInt( 100 ), null ) );
+            }
+        }
+
+        final List< ObjectChange > sequential = ObjectTools.diffCollections( before, after, byId, false );
+        final List< ObjectChange > parallel = ObjectTools.diffCollections( before, after, byId, true );
+
+        assertEquals( sequential.size(), parallel.size() );
+
+        for ( int i = 0; i < sequential.size(); i++ ) {
+            assertEquals( sequential.get( i ).getType(), parallel.get( i ).getType() );
+            assertEquals( sequential.get( i ).getKey(), parallel.get( i ).getKey() );
+            assertEquals( sequential.get( i ).getPropertyChanges(), parallel.get( i ).getPropertyChanges() );
+        }
+    }
+
+    static class Entity {
+
+        private final int id;
+
+        Entity( final int id ) {
+            this.id = id;
+        }
+
+    }
+
+    static final class Account extends Entity {
+
+        private static final String KIND = "account";
+
+        private final String name;
+
+        private final long balance;
+
+        private final Owner owner;
+
+        Account( final int id, final String name, final long balance, final Owner owner ) {
+            super( id );
+            this.name = name;
+            this.balance = balance;
+            this.owner = owner;
+        }
+
+    }
+
+    static final class Contact extends Entity {
+
+        private final String email;
+
+        Contact( final int id, final String email ) {
+            super( id );
+            this.email = email;
+        }
+
+    }
+
+    static final class Owner {
+
+        private final String state;
+
+        Owner( final String state ) {
+            this.state = state;
+        }
+
+    }
+
+}
@@ -16,6 +16,8 @@ public class ObjectToolsTest {
 
     final private Collection< String > propsWithTwoProp = new ArrayList<>();
 
+    final private Collection< String > propsWithCode = Collections.singletonList( "code" );
+
     final private Collection< String > collectionPreenchida = new ArrayList<>();
 
     final private Map< String, String > mapaPreenchida = new HashMap<>();
@@ -154,4 +156,75 @@ public class ObjectToolsTest {
         assertEquals( describeObjectsCollection( Arrays.asList( objectsArray ) ), expectedResult );
     }
 
-}
\ No newline at end of file
+    @Test( expected = IllegalArgumentException.class )
+    public final void testDistinctByWithNullElement() {
+        distinctBy( Arrays.asList( new Entry( 1, "A" ), null ), propsWithCode );
+    }
+
+    @Test
+    public final void testDistinctByAndGroupBy() {
+        final Entry first = new Entry( 2, "B" );
+        final Entry second = new Entry( 1, "A" );
+        final Entry third = new Entry( 3, "C" );
+        final List< Entry > values = Arrays.asList( first, second, new Entry( 2, "X" ), third, new Entry( 1, "Y" ), new Entry( 2, "Z" ) );
+
+        assertEquals( Arrays.asList( first, second, third ), distinctBy( values, propsWithCode ) );
+        assertEquals( values, distinctBy( values, Arrays.asList( "code", "name" ) ) );
+
+        final Map< List< Object >, List< Entry > > groups = groupBy( values, propsWithCode );
+
+        assertEquals( 3, groups.size() );
+        assertEquals( Arrays.asList( first, values.get( 2 ), values.get( 5 ) ), groups.get( Collections.singletonList( 2 ) ) );
+        assertEquals( Arrays.asList( second, values.get( 4 ) ), groups.get( Collections.singletonList( 1 ) ) );
+        assertEquals( Collections.singletonList( 2 ), groups.keySet().iterator().next() );
+    }
+
+    @Test
+    public final void testIntersectByAndDiffBy() {
+        final List< Entry > values = Arrays.asList( new Entry( 1, "A" ), new Entry( 2, "B" ), new Entry( 3, "C" ), new Entry( 4, "D" ), new Entry( 2, "E" ) );
+        final List< Entry > others = Arrays.asList( new Entry( 2, "B" ), new Entry( 4, "D" ), new Entry( 5, "E" ) );
+
+        assertEquals( Arrays.asList( values.get( 1 ), values.get( 3 ), values.get( 4 ) ), intersectBy( values, others, propsWithCode ) );
+        assertEquals( Arrays.asList( values.get( 0 ), values.get( 2 ) ), diffBy( values, others, propsWithCode ) );
+        assertEquals( Arrays.asList( values.get( 1 ), values.get( 3 ) ), intersectBy( values, others, Arrays.asList( "code", "name" ) ) );
+    }
+
+    @Test
+    public final void testParallelModeMatchesSequentialMode() {
+        final Random random = new Random( 13 );
+        final List< Entry > values = new ArrayList<>();
+        final List< Entry > others = new ArrayList<>();
+
+        for ( int i = 0; i < 50000; i++ ) {
+            values.add( new Entry( random.nextInt( 20000 ), String.valueOf( random.nextInt( 3 ) ) ) );
+            others.add( new Entry( random.nextInt( 40000 ), String.valueOf( random.nextInt( 3 ) ) ) );
+        }
+
+        final List< String > both = Arrays.asList( "code", "name" );
+
+        assertEquals( distinctBy( values, both ), distinctBy( values, both, true ) );
+        assertEquals( new ArrayList<>( groupBy( values, both ).values() ), new ArrayList<>( groupBy( values, both, true ).values() ) );
+        assertEquals( intersectBy( values, others, both ), intersectBy( values, others, both, true ) );
+        assertEquals( diffBy( values, others, both ), diffBy( values, others, both, true ) );
+        assertEquals( values.size(), intersectBy( values, others, both ).size() + diffBy( values, others, both ).size() );
+    }
+
+    @Test
+    public final void testAreEqualsUsingPropertyWithArrayValues() {
+        assertTrue( areEqualsUsingProperty( new String( "Teste" ), new String( "Teste" ), propsWithOneProp ) );
+    }
+
+    private static final class Entry {
+
+        private final int code;
+
+        private final String name;
+
+        private Entry( final int code, final String name ) {
+            this.code = code;
+            this.name = name;
+        }
+
+    }
+
+}
@@ -0,0 +1,126 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelStatisticsTest {
+
+    private final ParallelStatistics statistics = new ParallelStatistics( ForkJoinPool.commonPool(), 1000 );
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingEngineWithInvalidThreshold() {
+        new ParallelStatistics( ForkJoinPool.commonPool(), 0 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testComputeWithEmptyArray() {
+        this.statistics.compute( new double[ 0 ] );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testComputeWithNullArray() {
+        this.statistics.compute( ( long[] ) null );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAvgWithNegativeScale() {
+        this.statistics.avgWithScale( new double[]{ 1 }, -1 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testPeakTreatmentRemovingEveryNumber() {
+        this.statistics.avgWithScaleAndPeakTreatment( new double[]{ 0, 100 }, 0, 10, false );
+    }
+
+    @Test
+    public final void testCompute() {
+        final NumberStatistics result = this.statistics.compute( new double[]{ 2, 4, 4, 4, 5, 5, 7, 9 } );
+
+        assertEquals( 8, result.getCount() );
+        assertEquals( 2, result.getMin(), 0 );
+        assertEquals( 9, result.getMax(), 0 );
+        assertEquals( 0, new BigDecimal( "40" ).compareTo( result.getSum() ) );
+        assertEquals( new BigDecimal( "5.00" ), result.getAvg( 2 ) );
+        assertEquals( 4, result.getVariance(), 1e-12 );
+        assertEquals( 32.0 / 7, result.getSampleVariance(), 1e-12 );
+        assertEquals( 2, result.getStandardDeviation(), 1e-12 );
+    }
+
+    @Test
+    public final void testComputeMatchesSequentialAverages() {
+        final Random random = new Random( 3 );
+        final double[] doubles = new double[ 250000 ];
+        final long[] longs = new long[ doubles.length ];
+
+        for ( int i = 0; i < doubles.length; i++ ) {
+            doubles[ i ] = random.nextInt( 10000000 ) / 1000.0;
+            longs[ i ] = random.nextLong() >> 2;
+        }
+
+        doubles[ 42 ] = 50000;
+
+        for ( int scale = 0; scale < 6; scale++ ) {
+            assertEquals( NumberTools.avgWithScale( doubles, scale ), this.statistics.avgWithScale( doubles, scale ) );
+            assertEquals( NumberTools.avgWithScale( longs, scale ), this.statistics.avgWithScale( longs, scale ) );
+            assertEquals( NumberTools.avgWithScaleAndPeakTreatment( doubles, scale, 50, true ),
+                    this.statistics.avgWithScaleAndPeakTreatment( doubles, scale, 50, true ) );
+            assertEquals( NumberTools.avgWithScaleAndPeakTreatment( doubles, scale, 50, false ),
+                    this.statistics.avgWithScaleAndPeakTreatment( doubles, scale, 50, false ) );
+        }
+    }
+
+    @Test
+    public final void testLongMinAndMaxAreExact() {
+        final long[] numbers = new long[ 5000 ];
+
+        for ( int i = 0; i < numbers.length; i++ ) {
+            numbers[ i ] = ( 1L << 60 ) + i;
+        }
+
+        numbers[ 1234 ] = Long.MAX_VALUE;
+        numbers[ 4321 ] = Long.MIN_VALUE + 1;
+
+        final NumberStatistics computed = this.statistics.compute( numbers );
+
+        assertEquals( Long.MIN_VALUE + 1, computed.getLongMin() );
+        assertEquals( Long.MAX_VALUE, computed.getLongMax() );
+        assertEquals( ( double ) Long.MAX_VALUE, computed.getMax(), 0 );
+    }
+
+    @Test( expected = IllegalStateException.class )
+    public final void testLongMinOfDoubleStatistics() {
+        this.statistics.compute( new double[]{ 1, 2 } ).getLongMin();
+    }
+
+    @Test
+    public final void testComputeMatchesSequentialVariance() {
+        final Random random = new Random( 9 );
+        final double[] numbers = new double[ 100000 ];
+
+        double sum = 0;
+
+        for ( int i = 0; i < numbers.length; i++ ) {
+            numbers[ i ] = 1e6 + random.nextGaussian();
+            sum += numbers[ i ];
+        }
+
+        final double mean = sum / numbers.length;
+
+        double squaredDeviations = 0;
+
+        for ( double number : numbers ) {
+            squaredDeviations += ( number - mean ) * ( number - mean );
+        }
+
+        final NumberStatistics result = this.statistics.compute( numbers );
+
+        assertEquals( squaredDeviations / numbers.length, result.getVariance(), 1e-6 );
+        assertEquals( numbers.length, result.getCount() );
+    }
+
+}
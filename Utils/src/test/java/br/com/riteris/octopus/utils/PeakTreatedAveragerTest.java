@@ -0,0 +1,88 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PeakTreatedAveragerTest {
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingAveragerWithNegativePeakPercentual() {
+        new PeakTreatedAverager( -1, true );
+    }
+
+    @Test( expected = IllegalStateException.class )
+    public final void testAvgWithoutNumbers() {
+        new PeakTreatedAverager( 10, true ).getPeakTreatedAvg( 2 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAddingNaN() {
+        new PeakTreatedAverager( 10, true ).add( Double.NaN );
+    }
+
+    @Test( expected = IllegalStateException.class )
+    public final void testPeakRemovalOfEveryNumber() {
+        new PeakTreatedAverager( 10, false ).add( new int[]{ 0, 100 } ).getPeakTreatedAvg( 0 );
+    }
+
+    @Test
+    public final void testPeakTreatedAvg() {
+        final PeakTreatedAverager substituting = new PeakTreatedAverager( 10, true ).add( new double[]{ 10, 10, 100 } );
+        final PeakTreatedAverager removing = new PeakTreatedAverager( 90, false ).add( new long[]{ 10, 10, 100 } );
+
+        assertEquals( 3, substituting.getCount() );
+        assertEquals( new BigDecimal( "40" ), substituting.getAvg( 0 ) );
+        assertEquals( new BigDecimal( "40" ), substituting.getPeakTreatedAvg( 0 ) );
+        assertEquals( new BigDecimal( "10" ), removing.getPeakTreatedAvg( 0 ) );
+    }
+
+    @Test
+    public final void testPeakTreatedAvgKeepsValuesOnTheLimits() {
+        final PeakTreatedAverager averager = new PeakTreatedAverager( 50, false ).add( new int[]{ 30, 60, 90, 1000, -880 } );
+
+        assertEquals( new BigDecimal( "60" ), averager.getAvg( 0 ) );
+        assertEquals( new BigDecimal( "60.00" ), averager.getPeakTreatedAvg( 2 ) );
+        assertEquals( NumberTools.avgWithScaleAndPeakTreatment( new int[]{ 30, 60, 90, 1000, -880 }, 2, 50, false ), averager.getPeakTreatedAvg( 2 ) );
+    }
+
+    @Test
+    public final void testMergeAndReset() {
+        final PeakTreatedAverager first = new PeakTreatedAverager( 90, false ).add( new int[]{ 10, 10 } );
+        final PeakTreatedAverager second = new PeakTreatedAverager( 90, false ).add( 100 );
+
+        assertEquals( new BigDecimal( "10" ), first.merge( second ).getPeakTreatedAvg( 0 ) );
+        assertEquals( 3, first.getCount() );
+
+        first.reset();
+        first.add( 7 );
+
+        assertEquals( new BigDecimal( "7.0" ), first.getPeakTreatedAvg( 1 ) );
+    }
+
+    @Test
+    public final void testPeakTreatedAvgStaysCloseToExactAvg() {
+        final Random random = new Random( 17 );
+
+        for ( int round = 0; round < 50; round++ ) {
+            final double[] numbers = new double[ 20000 ];
+
+            for ( int i = 0; i < numbers.length; i++ ) {
+                numbers[ i ] = random.nextInt( 10 ) == 0 ? random.nextDouble() * 10000 - 5000 : 500 + random.nextGaussian() * 50;
+            }
+
+            final boolean substitute = random.nextBoolean();
+            final double peakPercentual = 5 + random.nextInt( 50 );
+            final PeakTreatedAverager averager = new PeakTreatedAverager( peakPercentual, substitute ).add( numbers );
+            final double exact = NumberTools.avgWithScaleAndPeakTreatment( numbers, 4, peakPercentual, substitute ).doubleValue();
+            final double estimated = averager.getPeakTreatedAvg( 4 ).doubleValue();
+
+            assertTrue( exact + " " + estimated, Math.abs( exact - estimated ) <= Math.abs( exact ) * 0.01 );
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class PropertyEquivalenceTest {
+
+    private final PropertyEquivalence byCodeAndName = new PropertyEquivalence( Arrays.asList( "code", "name" ) );
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingWithEmptyProperties() {
+        new PropertyEquivalence( Collections.emptyList() );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingWithNullPropertyName() {
+        new PropertyEquivalence( Arrays.asList( "code", null ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testComparingWithMissingProperty() {
+        new PropertyEquivalence( Collections.singletonList( "missing" ) ).areEquivalent( new Item( 1, "A", 1.0 ), new Item( 1, "A", 1.0 ) );
+    }
+
+    @Test
+    public final void testEquivalence() {
+        assertTrue( byCodeAndName.areEquivalent( new Item( 1, "A", 1.0 ), new Item( 1, "A", 2.0 ) ) );
+        assertFalse( byCodeAndName.areEquivalent( new Item( 1, "A", 1.0 ), new Item( 2, "A", 1.0 ) ) );
+        assertFalse( byCodeAndName.areEquivalent( new Item( 1, "A", 1.0 ), null ) );
+        assertTrue( byCodeAndName.areEquivalent( new Item( 1, null, 1.0 ), new Item( 1, null, 2.0 ) ) );
+        assertFalse( byCodeAndName.areEquivalent( new Item( 1, null, 1.0 ), new Item( 1, "A", 1.0 ) ) );
+    }
+
+    @Test
+    public final void testEquivalenceWithInheritedFieldsAndDifferentClasses() {
+        assertTrue( byCodeAndName.areEquivalent( new SpecialItem( 7, "B", 1.0, true ), new Item( 7, "B", 3.0 ) ) );
+        assertEquals( byCodeAndName.hash( new SpecialItem( 7, "B", 1.0, true ) ), byCodeAndName.hash( new Item( 7, "B", 3.0 ) ) );
+        assertTrue( ObjectTools.areEqualsUsingProperty( new SpecialItem( 7, "B", 1.0, true ), new SpecialItem( 7, "B", 1.0, false ),
+                Arrays.asList( "code", "price" ) ) );
+    }
+
+    @Test
+    public final void testHashIsConsistentWithEquivalence() {
+        assertEquals( byCodeAndName.hash( new Item( 3, "C", 1.0 ) ), byCodeAndName.hash( new Item( 3, "C", 9.0 ) ) );
+        assertNotEquals( byCodeAndName.hash( new Item( 3, "C", 1.0 ) ), byCodeAndName.hash( new Item( 4, "C", 1.0 ) ) );
+        assertEquals( 0, byCodeAndName.hash( null ) );
+    }
+
+    @Test
+    public final void testSharedEquivalenceIsCached() {
+        assertSame( PropertyEquivalence.shared( Arrays.asList( "code", "name" ) ), PropertyEquivalence.shared( Arrays.asList( "code", "name" ) ) );
+    }
+
+    static class Item {
+
+        private final int code;
+
+        private final String name;
+
+        private final double price;
+
+        Item( final int code, final String name, final double price ) {
+            this.code = code;
+            this.name = name;
+            this.price = price;
+        }
+
+    }
+
+    static final class SpecialItem extends Item {
+
+        private final boolean special;
+
+        SpecialItem( final int code, final String name, final double price, final boolean special ) {
+            super( code, name, price );
+            this.special = special;
+        }
+
+    }
+
+}
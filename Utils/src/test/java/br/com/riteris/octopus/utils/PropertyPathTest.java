@@ -0,0 +1,123 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class PropertyPathTest {
+
+    private final Customer ana = new Customer( "Ana", new Address( new City( "SP", 11 ) ) );
+
+    private final Customer bia = new Customer( "Bia", new Address( new City( "RJ", 21 ) ) );
+
+    private final Customer caio = new Customer( "Caio", new Address( new City( "SP", 11 ) ) );
+
+    private final Customer homeless = new Customer( "Davi", null );
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingWithEmptySegment() {
+        new PropertyPath( "address..city" );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingWithTrailingSeparator() {
+        new PropertyPath( "address." );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testReadingMissingProperty() {
+        new PropertyPath( "address.street" ).read( ana );
+    }
+
+    @Test
+    public final void testReading() {
+        final PropertyPath path = PropertyPath.of( "address.city.code" );
+
+        assertSame( path, PropertyPath.of( "address.city.code" ) );
+        assertEquals( Arrays.asList( "address", "city", "code" ), path.getSegments() );
+        assertEquals( 11, path.read( ana ) );
+        assertNull( path.read( homeless ) );
+        assertNull( path.read( null ) );
+        assertEquals( "Ana", PropertyPath.of( "name" ).read( ana ) );
+        assertEquals( "SP", ObjectTools.getPropertyValue( caio, "address.city.state" ) );
+    }
+
+    @Test
+    public final void testComparisonAndSorting() {
+        final PropertyPath path = PropertyPath.of( "address.city.code" );
+
+        assertTrue( path.areEqual( ana, caio ) );
+        assertFalse( path.areEqual( ana, bia ) );
+        assertTrue( path.< Customer >comparator().compare( homeless, ana ) < 0 );
+
+        final List< Customer > customers = new ArrayList<>( Arrays.asList( caio, homeless, bia, ana ) );
+
+        ObjectTools.sortBy( customers, Arrays.asList( "address.city.code", "name" ) );
+
+        assertEquals( Arrays.asList( homeless, ana, caio, bia ), customers );
+    }
+
+    @Test
+    public final void testNestedPathsInObjectTools() {
+        assertTrue( ObjectTools.areEqualsUsingProperty( ana, caio, Collections.singletonList( "address.city.state" ) ) );
+
+        final Map< List< Object >, List< Customer > > groups = ObjectTools.groupBy( Arrays.asList( ana, bia, caio, homeless ), Collections.singletonList(
+                "address.city.code" ) );
+
+        assertEquals( Arrays.asList( ana, caio ), groups.get( Collections.singletonList( 11 ) ) );
+        assertEquals( Collections.singletonList( homeless ), groups.get( Collections.singletonList( null ) ) );
+        assertEquals( Collections.singletonList( bia ), ObjectTools.diffBy( Arrays.asList( ana, bia ), Collections.singletonList( caio ),
+                Collections.singletonList( "address.city.state" ) ) );
+    }
+
+    static class Person {
+
+        private final String name;
+
+        Person( final String name ) {
+            this.name = name;
+        }
+
+    }
+
+    static final class Customer extends Person {
+
+        private final Address address;
+
+        Customer( final String name, final Address address ) {
+            super( name );
+            this.address = address;
+        }
+
+    }
+
+    static final class Address {
+
+        private final City city;
+
+        Address( final City city ) {
+            this.city = city;
+        }
+
+    }
+
+    static final class City {
+
+        private final String state;
+
+        private final int code;
+
+        City( final String state, final int code ) {
+            this.state = state;
+            this.code = code;
+        }
+
+    }
+
+}
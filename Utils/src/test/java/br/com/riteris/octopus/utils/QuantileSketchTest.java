@@ -0,0 +1,107 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class QuantileSketchTest {
+
+    @Test( expected = IllegalStateException.class )
+    public final void testQuantileOfEmptySketch() {
+        new QuantileSketch().getMedian();
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testInvalidQuantile() {
+        new QuantileSketch().add( 1 ).getQuantile( 1.5 );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testInvalidTrimmingRange() {
+        new QuantileSketch().add( 1 ).getTrimmedAvg( 0.9, 0.1, 2 );
+    }
+
+    @Test
+    public final void testQuantilesOfSmallSet() {
+        final QuantileSketch sketch = new QuantileSketch().add( new double[]{ 5, 1, 3, 2, 4 } );
+
+        assertEquals( 5, sketch.getCount() );
+        assertEquals( 1, sketch.getQuantile( 0 ), 0 );
+        assertEquals( 3, sketch.getMedian(), 0 );
+        assertEquals( 5, sketch.getQuantile( 1 ), 0 );
+        assertEquals( new BigDecimal( "3.00" ), sketch.getTrimmedAvg( 0.2, 0.8, 2 ) );
+    }
+
+    @Test
+    public final void testQuantilesStayWithinRelativeError() {
+        final Random random = new Random( 23 );
+        final double[] latencies = new double[ 200000 ];
+
+        for ( int i = 0; i < latencies.length; i++ ) {
+            latencies[ i ] = Math.exp( random.nextGaussian() ) * 100;
+        }
+
+        final QuantileSketch sketch = new QuantileSketch().add( latencies );
+        final double[] sorted = latencies.clone();
+
+        Arrays.sort( sorted );
+
+        for ( double quantile : new double[]{ 0.01, 0.25, 0.5, 0.95, 0.99, 0.999 } ) {
+            final double exact = sorted[ ( int ) Math.round( quantile * ( sorted.length - 1 ) ) ];
+
+            assertEquals( "p" + quantile, exact, sketch.getQuantile( quantile ), exact * 0.01 );
+        }
+    }
+
+    @Test
+    public final void testMergedSketchesMatchSingleSketch() {
+        final Random random = new Random( 29 );
+        final QuantileSketch whole = new QuantileSketch();
+        final QuantileSketch[] partitions = { new QuantileSketch(), new QuantileSketch(), new QuantileSketch() };
+
+        for ( int i = 0; i < 30000; i++ ) {
+            final double number = random.nextGaussian() * 1000;
+
+            whole.add( number );
+            partitions[ i % 3 ].add( number );
+        }
+
+        final QuantileSketch merged = partitions[ 0 ].merge( partitions[ 1 ] ).merge( partitions[ 2 ] );
+
+        assertEquals( whole.getCount(), merged.getCount() );
+        assertEquals( whole.getMin(), merged.getMin(), 0 );
+
+        for ( double quantile : new double[]{ 0.05, 0.5, 0.95, 0.99 } ) {
+            assertEquals( whole.getQuantile( quantile ), merged.getQuantile( quantile ), 1e-9 );
+        }
+    }
+
+    @Test
+    public final void testTrimmedAvgStaysCloseToExactTrimmedAvg() {
+        final Random random = new Random( 37 );
+        final double[] numbers = new double[ 100000 ];
+
+        for ( int i = 0; i < numbers.length; i++ ) {
+            numbers[ i ] = random.nextInt( 50 ) == 0 ? 1e6 * random.nextDouble() : 200 + random.nextDouble() * 100;
+        }
+
+        final double[] sorted = numbers.clone();
+
+        Arrays.sort( sorted );
+
+        double exactSum = 0;
+
+        for ( int i = 5000; i < 95000; i++ ) {
+            exactSum += sorted[ i ];
+        }
+
+        final double exact = exactSum / 90000;
+
+        assertEquals( exact, new QuantileSketch().add( numbers ).getTrimmedAvg( 0.05, 0.95, 4 ).doubleValue(), exact * 0.001 );
+    }
+
+}
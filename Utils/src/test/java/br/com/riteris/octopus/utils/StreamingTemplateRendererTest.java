@@ -0,0 +1,134 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static br.com.riteris.octopus.utils.StringTools.replacePartsInStringUsingMapAndDelimiters;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class StreamingTemplateRendererTest {
+
+    private final Map< String, String > replacementMap = new HashMap<>();
+
+    @Before
+    public void setUp() throws Exception {
+        replacementMap.put( "dog", "cat" );
+        replacementMap.put( "mouse", "pig" );
+        replacementMap.put( "a", "<A>" );
+        replacementMap.put( "ab", "<AB>" );
+        replacementMap.put( "b}", "<B}>" );
+        replacementMap.put( "{a", "<{A>" );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingRendererWithEmptyMap() {
+        new StreamingTemplateRenderer( new HashMap<>(), "{{", "}}" );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingRendererWithBlankDelimiter() {
+        new StreamingTemplateRenderer( replacementMap, "{{", " " );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingRendererWithInvalidBufferSize() {
+        new StreamingTemplateRenderer( replacementMap, "{{", "}}", 0 );
+    }
+
+    @Test
+    public final void testRenderCharSequence() throws IOException {
+        final StringBuilder result = new StringBuilder();
+
+        new StreamingTemplateRenderer( replacementMap, "i18n<", ">i18n" ).render( "The i18n<dog>i18n and the i18n<mouse>i18n\r\ndo óinc!.", result );
+
+        assertEquals( "The cat and the pig\r\ndo óinc!.", result.toString() );
+    }
+
+    @Test
+    public final void testRenderReaderWithSmallBuffer() throws IOException {
+        final StringWriter result = new StringWriter();
+
+        new StreamingTemplateRenderer( replacementMap, "i18n<", ">i18n", 3 ).render( new StringReader( "The i18n<dog>i18n and the i18n<cow>i18n." ), result );
+
+        assertEquals( "The cat and the i18n<cow>i18n.", result.toString() );
+    }
+
+    @Test
+    public final void testRenderToChannel() throws IOException {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+
+        new StreamingTemplateRenderer( replacementMap, "{{", "}}", 4 ).render( new StringReader( "Ação {{dog}}!" ), Channels.newChannel( result ),
+                StandardCharsets.UTF_8 );
+
+        assertEquals( "Ação cat!", new String( result.toByteArray(), StandardCharsets.UTF_8 ) );
+    }
+
+    @Test
+    public final void testRenderToChannelWithStatefulCharset() throws IOException {
+        final Charset charset = Charset.forName( "ISO-2022-JP" );
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+
+        new StreamingTemplateRenderer( replacementMap, "{{", "}}", 2 ).render( "{{dog}} \u3042\u3044", Channels.newChannel( result ), charset );
+
+        final byte[] bytes = result.toByteArray();
+
+        assertEquals( "cat \u3042\u3044", new String( bytes, charset ) );
+        assertArrayEquals( new byte[]{ 0x1B, '(', 'B' }, Arrays.copyOfRange( bytes, bytes.length - 3, bytes.length ) );
+    }
+
+    @Test( expected = CharacterCodingException.class )
+    public final void testRenderToChannelEndingInUnpairedSurrogate() throws IOException {
+        new StreamingTemplateRenderer( replacementMap, "{{", "}}" ).render( "{{dog}}\uD83D", Channels.newChannel( new ByteArrayOutputStream() ),
+                StandardCharsets.UTF_8 );
+    }
+
+    @Test
+    public final void testRenderWithPlaceholderLongerThanKeys() throws IOException {
+        final StringBuilder result = new StringBuilder();
+
+        new StreamingTemplateRenderer( replacementMap, "{{", "}}" ).render( "{{a very long key {{dog}} here}} {{dog}}", result );
+
+        assertEquals( "{{a very long key {{dog}} here}} cat", result.toString() );
+    }
+
+    @Test
+    public final void testRenderMatchesCompiledTemplate() throws IOException {
+        final Random random = new Random( 42 );
+        final char[] alphabet = { '{', '}', 'a', 'b', '\n', ' ' };
+
+        for ( int i = 0; i < 2000; i++ ) {
+            final StringBuilder template = new StringBuilder();
+            final int length = random.nextInt( 30 );
+
+            for ( int j = 0; j < length; j++ ) {
+                template.append( alphabet[ random.nextInt( alphabet.length ) ] );
+            }
+
+            final String expected = replacePartsInStringUsingMapAndDelimiters( template.toString(), replacementMap, "{{", "}}" );
+
+            final StringBuilder fromCharSequence = new StringBuilder();
+            new StreamingTemplateRenderer( replacementMap, "{{", "}}", 1 ).render( template, fromCharSequence );
+
+            final StringWriter fromReader = new StringWriter();
+            new StreamingTemplateRenderer( replacementMap, "{{", "}}", 2 ).render( new StringReader( template.toString() ), fromReader );
+
+            assertEquals( template.toString(), expected, fromCharSequence.toString() );
+            assertEquals( template.toString(), expected, fromReader.toString() );
+        }
+    }
+
+}
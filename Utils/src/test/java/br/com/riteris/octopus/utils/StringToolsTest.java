@@ -34,6 +34,78 @@ public class StringToolsTest {
         assertFalse( stringIsNullOrEmptyOrBlank( "foo" ) );
     }
 
+    @Test
+    public final void testTextIsBlankMatchesRegexDefinition() {
+        for ( char character = 0; character < 0x3000; character++ ) {
+            final String text = " " + character;
+
+            assertEquals( String.valueOf( ( int ) character ), text.matches( "\\s+" ), textIsBlank( text ) );
+            assertEquals( String.valueOf( ( int ) character ), text.matches( "\\s+" ), textIsBlank( new StringBuilder( text ) ) );
+        }
+
+        assertFalse( textIsBlank( null ) );
+        assertFalse( textIsBlank( "" ) );
+        assertTrue( textIsBlank( " \t\r\n\f\u000B" ) );
+    }
+
+    @Test
+    public final void testTextIsNullOrEmptyOrBlank() {
+        assertTrue( textIsNullOrEmptyOrBlank( null ) );
+        assertTrue( textIsNullOrEmptyOrBlank( new StringBuilder() ) );
+        assertTrue( textIsNullOrEmptyOrBlank( " \t" ) );
+        assertFalse( textIsNullOrEmptyOrBlank( " foo " ) );
+    }
+
+    @Test
+    public final void testTextIsNumeric() {
+        assertFalse( textIsNumeric( null ) );
+        assertFalse( textIsNumeric( "" ) );
+        assertFalse( textIsNumeric( "12a" ) );
+        assertFalse( textIsNumeric( "-12" ) );
+        assertFalse( textIsNumeric( "1.2" ) );
+        assertFalse( textIsNumeric( "\u0661" ) );
+        assertTrue( textIsNumeric( "0123456789" ) );
+    }
+
+    @Test
+    public final void testTextIsAlphanumeric() {
+        assertFalse( textIsAlphanumeric( null ) );
+        assertFalse( textIsAlphanumeric( "" ) );
+        assertFalse( textIsAlphanumeric( "foo bar" ) );
+        assertFalse( textIsAlphanumeric( "foo-1" ) );
+        assertTrue( textIsAlphanumeric( "foo1" ) );
+        assertTrue( textIsAlphanumeric( "Ação2" ) );
+    }
+
+    @Test
+    public final void testTextIsAsciiOnly() {
+        assertFalse( textIsAsciiOnly( null ) );
+        assertTrue( textIsAsciiOnly( "" ) );
+        assertTrue( textIsAsciiOnly( "foo bar!\u007F" ) );
+        assertFalse( textIsAsciiOnly( "Ação" ) );
+    }
+
+    @Test
+    public final void testTextStartsAndEndsWithIgnoringCase() {
+        assertTrue( textStartsWithIgnoringCase( "Foo Bar", "fOO" ) );
+        assertTrue( textStartsWithIgnoringCase( "ÁGUA", "águ" ) );
+        assertTrue( textStartsWithIgnoringCase( "foo", "" ) );
+        assertFalse( textStartsWithIgnoringCase( "fo", "foo" ) );
+        assertFalse( textStartsWithIgnoringCase( null, "foo" ) );
+        assertFalse( textStartsWithIgnoringCase( "bar foo", "foo" ) );
+
+        assertTrue( textEndsWithIgnoringCase( "Foo Bar", "BAR" ) );
+        assertTrue( textEndsWithIgnoringCase( new StringBuilder( "AÇÃO" ), "ção" ) );
+        assertFalse( textEndsWithIgnoringCase( "ar", "bar" ) );
+        assertFalse( textEndsWithIgnoringCase( null, "bar" ) );
+        assertFalse( textEndsWithIgnoringCase( "bar foo", "bar" ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testTextStartsWithIgnoringCaseWithNullPrefix() {
+        textStartsWithIgnoringCase( "foo", null );
+    }
+
     @Test
     public final void testTrimStringAtLeft() {
         assertEquals( null, trimStringAtLeft( null ) );
@@ -42,6 +114,7 @@ public class StringToolsTest {
         assertEquals( "foo", trimStringAtLeft( "foo" ) );
         assertEquals( "foo", trimStringAtLeft( " foo" ) );
         assertEquals( "foo ", trimStringAtLeft( " foo " ) );
+        assertEquals( "foo", trimStringAtLeft( fillStringAtLeftWithBlankSpacesToDesiredLength( "foo", 10000 ) ) );
     }
 
     @Test
@@ -52,6 +125,7 @@ public class StringToolsTest {
         assertEquals( "foo", trimStringAtRight( "foo" ) );
         assertEquals( "foo", trimStringAtRight( "foo " ) );
         assertEquals( " foo", trimStringAtRight( " foo " ) );
+        assertEquals( "foo", trimStringAtRight( fillStringAtRightWithBlankSpacesToDesiredLength( "foo", 10000 ) ) );
     }
 
     @Test( expected = IllegalArgumentException.class )
@@ -145,6 +219,43 @@ public class StringToolsTest {
         assertEquals( "a ", fillStringAtRightWithBlankSpacesToDesiredLength( "a", 2 ) );
     }
 
+    @Test
+    public final void testAppendBlankSpaces() {
+        assertEquals( "foo", appendBlankSpaces( new StringBuilder( "foo" ), 0 ).toString() );
+        assertEquals( "foo  ", appendBlankSpaces( new StringBuilder( "foo" ), 2 ).toString() );
+        assertEquals( 1000, appendBlankSpaces( new StringBuilder(), 1000 ).length() );
+        assertTrue( stringIsBlank( appendBlankSpaces( new StringBuilder(), 1000 ).toString() ) );
+    }
+
+    @Test
+    public final void testFillStringWithBlankSpacesToDesiredLengthIntoBuilder() {
+        final StringBuilder target = new StringBuilder( "|" );
+
+        fillStringAtLeftWithBlankSpacesToDesiredLength( "a", 3, target ).append( "|" );
+        fillStringAtRightWithBlankSpacesToDesiredLength( "b", 3, target ).append( "|" );
+        fillStringAtLeftWithBlankSpacesToDesiredLength( null, 2, target ).append( "|" );
+        fillStringAtRightWithBlankSpacesToDesiredLength( "long", 2, target ).append( "|" );
+
+        assertEquals( "|  a|b  |  |long|", target.toString() );
+    }
+
+    @Test
+    public final void testFillStringWithBlankSpacesToDesiredLengthIntoArray() {
+        final char[] target = new char[ 10 ];
+
+        int offset = fillStringAtLeftWithBlankSpacesToDesiredLength( "ab", 4, target, 0 );
+        offset = fillStringAtRightWithBlankSpacesToDesiredLength( new StringBuilder( "cd" ), 4, target, offset );
+        offset = fillStringAtRightWithBlankSpacesToDesiredLength( "ef", 1, target, offset );
+
+        assertEquals( 10, offset );
+        assertEquals( "  abcd  ef", new String( target ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testFillStringWithBlankSpacesToDesiredLengthIntoSmallArray() {
+        fillStringAtLeftWithBlankSpacesToDesiredLength( "ab", 4, new char[ 5 ], 2 );
+    }
+
     @Test( expected = IllegalArgumentException.class )
     public final void testReplacePartsInStringUsingMapAndDelimitersWithNullSource() {
         final HashMap< String, String > map = new HashMap<>();
@@ -253,4 +364,53 @@ public class StringToolsTest {
         assertEquals( phraseFresultExpected, replacePartsInStringUsingMapAndDelimiters( phraseF, replacementMap, ld, rd ) );
     }
 
+    @Test
+    public final void testFoldToSearchKey() {
+        assertNull( foldToSearchKey( null ) );
+        assertEquals( "", foldToSearchKey( "" ) );
+        assertEquals( "joao da conceicao", foldToSearchKey( "Jo\u00E3o da Concei\u00C7\u00C3O" ) );
+        assertEquals( "jose.avila@exemplo.com.br", foldToSearchKey( "Jos\u00E9.\u00C1vila@Exemplo.COM.br" ) );
+        assertEquals( "aeiouaeiouaeiouaocn", foldToSearchKey( "\u00E1\u00E9\u00ED\u00F3\u00FA\u00C0\u00C8\u00CC\u00D2\u00D9\u00E2\u00EA\u00EE\u00F4\u00FB\u00E3\u00F5\u00E7\u00F1" ) );
+        assertEquals( "strasse aegir oeuvre thorn lodz", foldToSearchKey( "Stra\u00DFe \u00C6gir \u0152uvre \u00DEorn \u0141\u00F3d\u017A" ) );
+        assertEquals( "acao", foldToSearchKey( "Ac\u0327a\u0303o" ) );
+        assertEquals( "\u03B1\u03B2\u03B3", foldToSearchKey( "\u0391\u0392\u0393" ) );
+    }
+
+    @Test
+    public final void testFoldToSearchKeyIntoBuffer() {
+        final StringBuilder buffer = new StringBuilder( "key:" );
+
+        assertSame( buffer, foldToSearchKey( "\u00C9DEN", buffer ) );
+        assertEquals( "key:eden", buffer.toString() );
+        assertEquals( "key:eden", foldToSearchKey( null, buffer ).toString() );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testFoldToSearchKeyIntoNullBuffer() {
+        foldToSearchKey( "foo", null );
+    }
+
+    @Test
+    public final void testFoldToSearchKeys() {
+        assertNull( foldToSearchKeys( null ) );
+
+        final String alreadyFolded = "maria";
+        final String[] searchKeys = foldToSearchKeys( new String[]{ "M\u00C1RIA", null, alreadyFolded, "In\u00EAs" } );
+
+        assertArrayEquals( new String[]{ "maria", null, "maria", "ines" }, searchKeys );
+        assertSame( alreadyFolded, searchKeys[ 2 ] );
+    }
+
+    @Test
+    public final void testFoldToSearchKeyCoversLatinCharacters() {
+        for ( char character = 0; character < 0x180; character++ ) {
+            final String searchKey = foldToSearchKey( String.valueOf( character ) );
+
+            if ( Character.isLetter( character ) ) {
+                assertTrue( Integer.toHexString( character ), textIsAsciiOnly( searchKey ) );
+                assertEquals( Integer.toHexString( character ), searchKey, searchKey.toLowerCase() );
+            }
+        }
+    }
+
 }
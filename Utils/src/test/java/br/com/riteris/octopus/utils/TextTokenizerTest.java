@@ -0,0 +1,159 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class TextTokenizerTest {
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingTokenizerWithEmptyDelimiter() {
+        new TextTokenizer( "" );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingTokenizerWithQuoteInsideDelimiter() {
+        new TextTokenizer( ",\"", '"' );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testTokenizingNullText() {
+        new TextTokenizer( "," ).tokenize( null );
+    }
+
+    @Test
+    public final void testSplitWithSingleCharDelimiter() {
+        final TextTokenizer tokenizer = new TextTokenizer( ";" );
+
+        assertArrayEquals( new String[]{ "" }, tokenizer.split( "" ) );
+        assertArrayEquals( new String[]{ "abc" }, tokenizer.split( "abc" ) );
+        assertArrayEquals( new String[]{ "a", "b", "c" }, tokenizer.split( "a;b;c" ) );
+        assertArrayEquals( new String[]{ "", "a", "", "b", "" }, tokenizer.split( ";a;;b;" ) );
+    }
+
+    @Test
+    public final void testSplitWithMultiCharDelimiter() {
+        final TextTokenizer tokenizer = new TextTokenizer( "||" );
+
+        assertArrayEquals( new String[]{ "a", "b|c", "" }, tokenizer.split( "a||b|c||" ) );
+        assertArrayEquals( new String[]{ "", "|x" }, tokenizer.split( "|||x" ) );
+        assertArrayEquals( new String[]{ "a|" }, tokenizer.split( "a|" ) );
+    }
+
+    @Test
+    public final void testTokenCursorReusesView() {
+        final TokenCursor cursor = new TextTokenizer( "," ).tokenize( "foo,bar" );
+
+        assertTrue( cursor.next() );
+
+        final CharSequence token = cursor.getToken();
+
+        assertEquals( "foo", token.toString() );
+        assertEquals( 0, cursor.getTokenIndex() );
+        assertTrue( cursor.next() );
+        assertSame( token, cursor.getToken() );
+        assertEquals( "bar", token.toString() );
+        assertEquals( 'a', token.charAt( 1 ) );
+        assertEquals( "ar", token.subSequence( 1, 3 ).toString() );
+        assertEquals( 1, cursor.getTokenIndex() );
+        assertFalse( cursor.next() );
+    }
+
+    @Test( expected = IllegalStateException.class )
+    public final void testGettingTokenBeforeNext() {
+        new TextTokenizer( "," ).tokenize( "foo" ).getToken();
+    }
+
+    @Test
+    public final void testSplitWithDoubledQuotes() {
+        final TextTokenizer tokenizer = new TextTokenizer( ",", '"' );
+
+        assertArrayEquals( new String[]{ "a,b", "say \"hi\"", "", "c" }, tokenizer.split( "\"a,b\",\"say \"\"hi\"\"\",\"\",c" ) );
+        assertArrayEquals( new String[]{ "quoted tail", "x" }, tokenizer.split( "\"quoted\" tail,x" ) );
+        assertArrayEquals( new String[]{ "a\"b" }, tokenizer.split( "a\"b" ) );
+    }
+
+    @Test
+    public final void testSplitWithEscapeCharacter() {
+        final TextTokenizer tokenizer = new TextTokenizer( "::", '\'', '\\' );
+
+        assertArrayEquals( new String[]{ "a::b", "it's", "c\\" }, tokenizer.split( "a\\::b::'it\\'s'::c\\" ) );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testSplitWithUnterminatedQuote() {
+        new TextTokenizer( ",", '"' ).split( "a,\"b" );
+    }
+
+    @Test
+    public final void testSplitStringUsingDelimiter() {
+        assertNull( StringTools.splitStringUsingDelimiter( null, "," ) );
+        assertArrayEquals( new String[]{ "1", "2", "" }, StringTools.splitStringUsingDelimiter( "1,2,", "," ) );
+    }
+
+    @Test
+    public final void testParallelStreamKeepsTokensAndOrder() {
+        final Random random = new Random( 11 );
+
+        for ( String delimiter : new String[]{ ",", "<>", "aa" } ) {
+            final StringBuilder text = new StringBuilder();
+
+            for ( int i = 0; i < 20000; i++ ) {
+                if ( i > 0 ) {
+                    text.append( delimiter );
+                }
+
+                text.append( random.nextInt( 1000 ) );
+            }
+
+            final TextTokenizer tokenizer = new TextTokenizer( delimiter );
+            final String sequential = tokenizer.stream( text, false ).collect( Collectors.joining( "|" ) );
+
+            assertEquals( 20000, tokenizer.split( text ).length );
+            assertEquals( sequential, tokenizer.stream( text, true ).collect( Collectors.joining( "|" ) ) );
+        }
+    }
+
+    @Test
+    public final void testSpliteratorSplitsOnlyWhenSafe() {
+        final StringBuilder text = new StringBuilder();
+
+        for ( int i = 0; i < 10000; i++ ) {
+            text.append( "x," );
+        }
+
+        assertNotNull( new TextTokenizer( "," ).spliterator( text ).trySplit() );
+        assertNull( new TextTokenizer( ",", '"' ).spliterator( text ).trySplit() );
+        assertNull( new TextTokenizer( "aa" ).spliterator( text ).trySplit() );
+
+        final Spliterator< String > spliterator = new TextTokenizer( "," ).spliterator( "a,b" );
+
+        assertNull( spliterator.trySplit() );
+    }
+
+    @Test
+    public final void testStreamCollectsIndependentTokens() {
+        final StringBuilder text = new StringBuilder();
+
+        for ( int i = 0; i < 5000; i++ ) {
+            text.append( i ).append( ';' );
+        }
+
+        final TextTokenizer tokenizer = new TextTokenizer( ";" );
+        final List< String > sequential = tokenizer.stream( text, false ).collect( Collectors.toList() );
+
+        assertEquals( 5001, sequential.size() );
+        assertEquals( "0", sequential.get( 0 ) );
+        assertEquals( "4999", sequential.get( 4999 ) );
+        assertEquals( "", sequential.get( 5000 ) );
+        assertEquals( sequential, tokenizer.stream( text, true ).collect( Collectors.toList() ) );
+        assertEquals( Arrays.asList( tokenizer.split( text ) ), sequential );
+    }
+
+}
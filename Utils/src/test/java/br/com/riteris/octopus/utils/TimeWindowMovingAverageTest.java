@@ -0,0 +1,94 @@
+package br.com.riteris.octopus.utils;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class TimeWindowMovingAverageTest {
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingWindowWithInvalidLength() {
+        new TimeWindowMovingAverage( 0, TimeUnit.SECONDS );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testCreatingWindowShorterThanOneMillisecond() {
+        new TimeWindowMovingAverage( 500, TimeUnit.MICROSECONDS );
+    }
+
+    @Test( expected = IllegalArgumentException.class )
+    public final void testAddingOutOfOrderTimestamp() {
+        final TimeWindowMovingAverage average = new TimeWindowMovingAverage( 1, TimeUnit.SECONDS );
+
+        average.add( 1000, 1 );
+        average.add( 999, 1 );
+    }
+
+    @Test
+    public final void testMovingAvg() {
+        final TimeWindowMovingAverage average = new TimeWindowMovingAverage( 10, TimeUnit.SECONDS );
+
+        average.add( 0, 1 );
+        average.add( 5000, 2 );
+        average.add( 9999, 3 );
+
+        assertEquals( new BigDecimal( "2.0" ), average.getAvg( 1 ) );
+
+        average.add( 10000, 6 );
+
+        assertEquals( 3, average.getSampleCount() );
+        assertEquals( new BigDecimal( "3.7" ), average.getAvg( 1 ) );
+
+        average.advanceTo( 19999 );
+
+        assertEquals( 1, average.getSampleCount() );
+        assertEquals( 6, average.getAvg(), 0 );
+
+        average.advanceTo( 30000 );
+
+        assertEquals( 0, average.getSampleCount() );
+        assertTrue( Double.isNaN( average.getAvg() ) );
+    }
+
+    @Test
+    public final void testWindowGrowsBeyondInitialCapacity() {
+        final TimeWindowMovingAverage average = new TimeWindowMovingAverage( 1, TimeUnit.MINUTES );
+
+        for ( int i = 0; i < 1000; i++ ) {
+            average.add( i * 10, i % 2 == 0 ? 1 : 3 );
+        }
+
+        assertEquals( 1000, average.getSampleCount() );
+        assertEquals( 2, average.getAvg(), 1e-12 );
+
+        for ( int i = 1000; i < 20000; i++ ) {
+            average.add( i * 10, i );
+        }
+
+        assertEquals( 6000, average.getSampleCount() );
+        assertEquals( ( 14000 + 19999 ) / 2.0, average.getAvg(), 1e-9 );
+    }
+
+    @Test
+    public final void testPeaksExpireWithTheWindow() {
+        final TimeWindowMovingAverage average = new TimeWindowMovingAverage( 1, TimeUnit.SECONDS, 20, false );
+
+        assertTrue( average.add( 0, 100 ) );
+        assertFalse( average.add( 100, 200 ) );
+        assertTrue( average.add( 200, 110 ) );
+        assertEquals( 105, average.getAvg(), 0 );
+        assertEquals( 1, average.getTotalSuppressedCount() );
+
+        assertTrue( average.add( 1200, 200 ) );
+        assertEquals( 200, average.getAvg(), 0 );
+
+        average.reset();
+
+        assertEquals( 0, average.getSampleCount() );
+        assertTrue( average.add( 0, 1 ) );
+    }
+
+}